@@ -0,0 +1,24 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This will launch the benchmarks with the gc profiler, so the allocation rate and the bytes allocated by
+ * operation ("gc.alloc.rate.norm") are given with the time of each benchmark.<br>
+ *
+ * An optional argument is a regular expression that select the benchmarks to run.
+ */
+public class BenchmarkMain {
+    public static void main (String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include((args.length > 0) ? args[0] : "benchmarks\\..*")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import hands.Hand;
+import hands.HandComparator;
+import hands.HandEvaluator;
+import interaction.ResultType;
+import interaction.Victorieu;
+import interaction.Victory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the comparison of two hands of the same result type, for every result type, and of the
+ * description of the result
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompareBenchmark {
+    @Param({"higherCard", "pair", "doublePair", "brelan", "suite", "couleur", "full", "carre", "quinteFlush"})
+    public ResultType type;
+
+    private HandComparator comparator;
+    private Hand hand1;
+    private Hand hand2;
+    private Victory victory;
+    private ResourceBundle r;
+
+    @Setup
+    public void setup () throws Exception {
+        comparator = new HandComparator();
+        Hand[] hands = Samples.handsOf(type);
+        hand1 = hands[0];
+        hand2 = hands[1];
+        victory = comparator.compare(hand1, hand2);
+        r = ResourceBundle.getBundle("values.strings", Locale.getDefault());
+    }
+
+    @Benchmark
+    public Victory compare () throws Exception {
+        return comparator.compare(hand1, hand2);
+    }
+
+    @Benchmark
+    public Victorieu getWinner () {
+        return comparator.getWinner(hand1, hand2);
+    }
+
+    @Benchmark
+    public int evaluate () {
+        return HandEvaluator.evaluate(hand1);
+    }
+
+    @Benchmark
+    public String describe () {
+        return victory.describe(r);
+    }
+}
@@ -0,0 +1,53 @@
+package benchmarks;
+
+import cards.RandomSource;
+import hands.Dealer;
+import hands.HandComparator;
+import hands.HandEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link Dealer} : a deal of a pair of hands in packed codes, then its comparison
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealBenchmark {
+    private Dealer dealer;
+    private HandComparator comparator;
+    private final byte[] cards = new byte[HandComparator.PAIR_LENGTH];
+    private final int[] results = new int[1];
+
+    @Setup
+    public void setup () {
+        SplittableRandom random = new SplittableRandom(42);
+        RandomSource source = random::nextInt;
+        dealer = new Dealer(source);
+        comparator = new HandComparator();
+    }
+
+    @Benchmark
+    public byte[] dealPair () {
+        dealer.dealPair(cards, 0);
+        return cards;
+    }
+
+    @Benchmark
+    public int dealSevenCards () {
+        dealer.newDeal();
+        return HandEvaluator.evaluateMask(dealer.dealMask(7));
+    }
+
+    @Benchmark
+    public int dealAndCompare () {
+        dealer.dealPair(cards, 0);
+        comparator.compareAll(cards, 0, 1, results, 0);
+        return results[0];
+    }
+}
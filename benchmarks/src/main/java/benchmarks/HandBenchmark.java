@@ -0,0 +1,88 @@
+package benchmarks;
+
+import cards.Card;
+import cards.Value;
+import hands.Hand;
+import interaction.ResultType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of every detector of {@link Hand}, on a hand of each result type. The profile of the hand is kept
+ * between two calls, so a single detector measure a cached profile, and {@link #allDetectors()} measure the
+ * computation of the profile followed by every detector.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+    @Param({"higherCard", "pair", "doublePair", "brelan", "suite", "couleur", "full", "carre", "quinteFlush"})
+    public ResultType type;
+
+    private Hand hand;
+
+    @Setup
+    public void setup () {
+        hand = Samples.handsOf(type)[0];
+    }
+
+    @Benchmark
+    public Card getHighestCard () {
+        return hand.getHighestCard();
+    }
+
+    @Benchmark
+    public Card getPairCards () {
+        return hand.getPairCards();
+    }
+
+    @Benchmark
+    public AbstractMap.SimpleEntry<Card, Card> getDoublePairCards () {
+        return hand.getDoublePairCards();
+    }
+
+    @Benchmark
+    public Card getBrelan () {
+        return hand.getBrelan();
+    }
+
+    @Benchmark
+    public Value[] getFull () {
+        return hand.getFull();
+    }
+
+    @Benchmark
+    public Card isSquare () {
+        return hand.isSquare();
+    }
+
+    @Benchmark
+    public Card isFlush () {
+        return hand.isFlush();
+    }
+
+    @Benchmark
+    public Card isStraight () {
+        return hand.isStraight();
+    }
+
+    @Benchmark
+    public Card isStraightFlush () {
+        return hand.isStraightFlush();
+    }
+
+    @Benchmark
+    public Object[] allDetectors () {
+        // Replacing a card clear the profile
+        hand.set(0, hand.get(0));
+        return new Object[] {hand.getHighestCard(), hand.getPairCards(), hand.getDoublePairCards(),
+                hand.getBrelan(), hand.getFull(), hand.isSquare(), hand.isFlush(), hand.isStraight(),
+                hand.isStraightFlush()};
+    }
+}
@@ -0,0 +1,37 @@
+package benchmarks;
+
+import hands.Hand;
+import hands.HandBuilder;
+import interaction.ResultType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link HandBuilder#buildHandFromString(String)}. A builder refuse a card it already built, so
+ * each operation is a new deal of one pair of hands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+    @Param({"higherCard", "doublePair", "couleur"})
+    public ResultType type;
+
+    private String[] pair;
+    private final HandBuilder builder = new HandBuilder();
+
+    @Setup
+    public void setup () {
+        pair = Samples.pairOf(type);
+    }
+
+    @Benchmark
+    public Hand[] buildHandFromString () throws Exception {
+        builder.reset();
+        return new Hand[] {builder.buildHandFromString(pair[0]), builder.buildHandFromString(pair[1])};
+    }
+}
@@ -0,0 +1,36 @@
+package benchmarks;
+
+import equity.Range;
+import equity.RangeEquity;
+import equity.RangeEquityResult;
+import hands.BitHand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link RangeEquity} : an opening range against every combo, before the flop (sampled boards)
+ * and on a flop (every turn and river)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeEquityBenchmark {
+    private final Range opening = Range.parse("22+, A2s+, K9s+, QTs+, JTs, T9s-54s, A9o+, KTo+, QJo");
+    private final Range everyCombo = Range.parse("22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32");
+    private final long flop = BitHand.of(0, 5, 42).getMask();
+    private final RangeEquity equity = new RangeEquity(42);
+
+    @Benchmark
+    public RangeEquityResult preflop () {
+        return equity.compute(opening, everyCombo, 0);
+    }
+
+    @Benchmark
+    public RangeEquityResult flop () {
+        return equity.compute(opening, everyCombo, flop);
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import hands.Hand;
+import hands.HandBuilder;
+import interaction.ResultType;
+
+/**
+ * Sample pairs of hands used by the benchmarks, one pair for each {@link ResultType}. Both hands of a pair
+ * have the category, so the comparison goes through the tie rules of this category.
+ */
+
+final class Samples {
+    // -- Static methods --
+    /**
+     * @param type a result type
+     * @return two hands of this type, without any common card
+     */
+    static String[] pairOf (ResultType type) {
+        switch (type) {
+            case higherCard:
+                return new String[] {"ACa RTr 8Pi 4Co 3Tr", "APi RCo 8Ca 4Tr 2Co"};
+            case pair:
+                return new String[] {"VCa VPi 3Tr 7Ca 6Co", "VCo VTr 3Pi 7Co 5Ca"};
+            case doublePair:
+                return new String[] {"VTr VPi DTr DPi 3Pi", "VCo VCa DCo DCa 2Ca"};
+            case brelan:
+                return new String[] {"DCa DPi DTr 3Pi 4Co", "2Ca 2Pi 2Tr 3Ca 4Tr"};
+            case suite:
+                return new String[] {"RCo DCo VCo 10Ca 9Co", "ACo RCa DCa VCa 10Tr"};
+            case couleur:
+                return new String[] {"3Tr 4Tr 5Tr 6Tr 8Tr", "2Co 4Co 5Co 6Co 8Co"};
+            case full:
+                return new String[] {"RTr RCa RPi 4Ca 4Co", "DTr DCa DPi 5Ca 5Co"};
+            case carre:
+                return new String[] {"VCa VPi VTr VCo 3Pi", "DCa DPi DTr DCo 3Ca"};
+            case quinteFlush:
+                return new String[] {"DTr 10Tr RTr 9Tr VTr", "9Ca 10Ca RCa DCa VCa"};
+            default:
+                throw new IllegalArgumentException("Unknown result type " + type);
+        }
+    }
+
+    /**
+     * @param type a result type
+     * @return two parsed hands of this type
+     */
+    static Hand[] handsOf (ResultType type) {
+        String[] pair = pairOf(type);
+        HandBuilder builder = new HandBuilder();
+        try {
+            return new Hand[] {builder.buildHandFromString(pair[0]), builder.buildHandFromString(pair[1])};
+        } catch (Exception e) {
+            throw new IllegalStateException("Bad sample for " + type, e);
+        }
+    }
+
+    private Samples () {
+        // Only static methods
+    }
+}
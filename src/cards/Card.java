@@ -4,6 +4,10 @@ package cards;
  * This class is a blueprint for cards that only registered a value (for simplification, the value is an integer
  * between two and fourteen where a value greater than ten is a figure)
  *
+ * A card is immutable. Every card of the 52-card deck also has a packed code (value ordinal &lt;&lt; 2 | color
+ * ordinal, so between 0 and 51) and a shared instance that can be retrieved with {@link #of(int)}, so parsing,
+ * comparing and hashing do not need to allocate new cards.
+ *
  * @author Gabriel Cogne
  * @author Yann CLODONG
  *
@@ -14,18 +18,112 @@ public class Card implements Comparable<Card> {
     // -- final statics variables --
     private final static String[] names = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "V", "D", "R", "A"};
 
+    /** Number of cards in a deck, and so number of distinct packed codes */
+    public final static int DECK_SIZE = 52;
+
+    private final static Value[] VALUES = Value.values();
+    private final static Color[] COLORS = Color.values();
+
+    // Shared instances indexed by packed code
+    private final static Card[] DECK = new Card[DECK_SIZE];
+
+    static {
+        for (Value value : VALUES) {
+            for (Color color : COLORS) {
+                DECK[encode(value, color)] = new Card(value, color);
+            }
+        }
+    }
+
     // -- Variables --
     private final Value value;
-    private Color color;
+    private final Color color;
+    private final int code;
 
     // -- Constructors --
     public Card (Value value) {
-        this.value = value;
+        this (value, null);
     }
 
     public Card (Value value, Color color) {
-        this (value);
+        this.value = value;
         this.color = color;
+        this.code = (color == null) ? -1 : encode(value, color);
+    }
+
+    // -- Factories --
+    /**
+     * Return the shared instance of a card using its packed code
+     * @param code a packed code between 0 and 51, as given by {@link #encode(Value, Color)}
+     * @return the card, never a new object
+     * @throws ArrayIndexOutOfBoundsException if the code is not a valid card code
+     */
+    public static Card of (int code) throws ArrayIndexOutOfBoundsException {
+        return DECK[code];
+    }
+
+    /**
+     * Return the shared instance of a card using its value and its color
+     * @param value the value of the card
+     * @param color the color of the card
+     * @return the card, never a new object
+     */
+    public static Card of (Value value, Color color) {
+        return DECK[encode(value, color)];
+    }
+
+    // -- Packed code methods --
+    /**
+     * Pack a value and a color in a single int. The value is in the upper bits so comparing two codes
+     * compare first the values.
+     * @param value the value of the card
+     * @param color the color of the card
+     * @return a code between 0 and 51
+     */
+    public static int encode (Value value, Color color) {
+        return encode(value.ordinal(), color.ordinal());
+    }
+
+    /**
+     * Pack a value ordinal and a color ordinal in a single int
+     * @param valueOrdinal the ordinal of the value, between 0 and 12
+     * @param colorOrdinal the ordinal of the color, between 0 and 3
+     * @return a code between 0 and 51
+     */
+    public static int encode (int valueOrdinal, int colorOrdinal) {
+        return (valueOrdinal << 2) | colorOrdinal;
+    }
+
+    /**
+     * @param code a packed card code
+     * @return the ordinal of the value stored in the code (0 for two, 12 for ace)
+     */
+    public static int valueOrdinal (int code) {
+        return code >> 2;
+    }
+
+    /**
+     * @param code a packed card code
+     * @return the ordinal of the color stored in the code
+     */
+    public static int colorOrdinal (int code) {
+        return code & 3;
+    }
+
+    /**
+     * @param code a packed card code
+     * @return the value stored in the code
+     */
+    public static Value valueOfCode (int code) {
+        return VALUES[code >> 2];
+    }
+
+    /**
+     * @param code a packed card code
+     * @return the color stored in the code
+     */
+    public static Color colorOfCode (int code) {
+        return COLORS[code & 3];
     }
 
     // -- Getters --
@@ -37,6 +135,13 @@ public class Card implements Comparable<Card> {
         return color;
     }
 
+    /**
+     * @return the packed code of this card, or -1 if the card has no color
+     */
+    public int getCode () {
+        return code;
+    }
+
     // -- Override method --
     /**
      * Compares this object with the specified object for order. Returns a negative integer, zero, or a positive integer
@@ -57,16 +162,24 @@ public class Card implements Comparable<Card> {
             throw new NullPointerException("compare can be done with a null object");
         }
 
-        return getValue().compareTo(o.getValue());
+        return value.ordinal() - o.value.ordinal();
     }
 
     @Override
     public boolean equals(Object obj) {
-        if(obj instanceof  Card) {
-            return ((Card) obj).getValue() == getValue() && ((Card) obj).getColor().equals(getColor());
+        if (obj == this) {
+            return true;
+        } else if(obj instanceof  Card) {
+            return ((Card) obj).value == value && ((Card) obj).color == color;
         } else return false;
     }
 
+    @Override
+    public int hashCode () {
+        // Colored cards use their code, cards without color are put after the deck
+        return (code >= 0) ? code : DECK_SIZE + value.ordinal();
+    }
+
     @Override
     public String toString () {
         return getDisplayableValue() + getColor();
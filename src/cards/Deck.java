@@ -0,0 +1,130 @@
+package cards;
+
+/**
+ * A deck of packed card codes (see {@link Card#encode(int, int)}) for simulations. The cards are kept in a
+ * primitive array and dealt with a partial Fisher-Yates shuffle : dealing n cards only draw n random numbers.
+ * Some dead cards (the known cards of the players for example) can be removed from the deck with a mask.<br>
+ *
+ * {@link #reset()} put all the dealt cards back in the deck without creating any object, so a single deck can
+ * deal millions of times. The order of the cards after a reset doesn't matter, since the next cards are chosen
+ * at random among all the cards that are not dealt.<br>
+ *
+ * A deck is not synchronized : each thread should use its own deck.
+ */
+
+public final class Deck {
+    // -- Fields --
+    private final byte[] cards = new byte[Card.DECK_SIZE];
+    private int size;
+    private int dealt;
+    private long dead;
+    private long dealtMask;
+
+    // -- Constructors --
+    /**
+     * Create a full deck of 52 cards
+     */
+    public Deck () {
+        this(0);
+    }
+
+    /**
+     * @param dead the mask of the cards that are not in the deck
+     */
+    public Deck (long dead) {
+        setDead(dead);
+    }
+
+    // -- Deck methods --
+    /**
+     * Change the cards that are not in the deck, and put back all the other cards
+     * @param dead the mask of the cards that are not in the deck
+     */
+    public void setDead (long dead) {
+        this.dead = dead;
+        size = 0;
+        for (int code = 0; code < Card.DECK_SIZE; code++) {
+            if ((dead & (1L << code)) == 0)
+                cards[size++] = (byte) code;
+        }
+        reset();
+    }
+
+    /**
+     * Put all the dealt cards back in the deck
+     */
+    public void reset () {
+        dealt = 0;
+        dealtMask = 0;
+    }
+
+    // -- Deal methods --
+    /**
+     * Deal one card
+     * @param random the source of random numbers
+     * @return the packed code of the card
+     * @throws IllegalStateException if all the cards are dealt
+     */
+    public int deal (RandomSource random) throws IllegalStateException {
+        if (dealt == size)
+            throw new IllegalStateException("No more card in the deck");
+
+        int j = dealt + random.nextInt(size - dealt);
+        byte card = cards[j];
+        cards[j] = cards[dealt];
+        cards[dealt++] = card;
+        dealtMask |= 1L << card;
+        return card;
+    }
+
+    /**
+     * Deal several cards
+     * @param n the number of cards
+     * @param random the source of random numbers
+     * @return the mask of the cards
+     * @throws IllegalStateException if there is not enough cards
+     */
+    public long dealMask (int n, RandomSource random) throws IllegalStateException {
+        long mask = 0;
+        for (int i = 0; i < n; i++) {
+            mask |= 1L << deal(random);
+        }
+        return mask;
+    }
+
+    /**
+     * Deal several cards in an array
+     * @param n the number of cards
+     * @param random the source of random numbers
+     * @param dest the array where the packed codes are written
+     * @param offset the index of the first code in the array
+     * @throws IllegalStateException if there is not enough cards
+     */
+    public void deal (int n, RandomSource random, byte[] dest, int offset) throws IllegalStateException {
+        for (int i = 0; i < n; i++) {
+            dest[offset + i] = (byte) deal(random);
+        }
+    }
+
+    // -- Getters --
+    /**
+     * @return the number of cards that can still be dealt
+     */
+    public int remaining () {
+        return size - dealt;
+    }
+
+    /**
+     * @return the mask of the cards that are not in the deck
+     */
+    public long getDead () {
+        return dead;
+    }
+
+    /**
+     * @return the mask of the cards dealt since the last reset
+     */
+    public long getDealt () {
+        return dealtMask;
+    }
+}
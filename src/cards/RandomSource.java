@@ -0,0 +1,16 @@
+package cards;
+
+/**
+ * A source of random numbers for the {@link Deck}. Any generator with a nextInt(bound) method can be given
+ * as a method reference, for example {@code new SplittableRandom(seed)::nextInt} or
+ * {@code ThreadLocalRandom.current()::nextInt}.
+ */
+
+@FunctionalInterface
+public interface RandomSource {
+    /**
+     * @param bound the upper bound, greater than 0
+     * @return a random number between 0 (included) and the bound (excluded)
+     */
+    int nextInt (int bound);
+}
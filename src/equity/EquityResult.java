@@ -0,0 +1,100 @@
+package equity;
+
+import interaction.ResultType;
+
+/**
+ * This class is the result of an equity computation : for each player, the number of boards won, shared
+ * and lost. The equity of a player is the part of the pot the player wins on average : a shared board
+ * counts for the part of the pot the player gets.
+ */
+
+public class EquityResult {
+    // -- Fields --
+    private final long samples;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+    private final long[][] types;
+
+    // -- Constructor --
+    /**
+     * @param samples the number of evaluated boards
+     * @param wins the number of boards won alone by each player
+     * @param ties the number of boards shared by each player
+     * @param shares the sum of the parts of the pot each player won on shared boards
+     * @param types the number of boards of each result type (indexed by ordinal) for each player
+     */
+    public EquityResult (long samples, long[] wins, long[] ties, double[] shares, long[][] types) {
+        this.samples = samples;
+        this.wins = wins;
+        this.ties = ties;
+        this.shares = shares;
+        this.types = types;
+    }
+
+    // -- Getters --
+    public long getSamples () {
+        return samples;
+    }
+
+    public int getNbPlayers () {
+        return wins.length;
+    }
+
+    public long getWins (int player) {
+        return wins[player];
+    }
+
+    public long getTies (int player) {
+        return ties[player];
+    }
+
+    public long getLosses (int player) {
+        return samples - wins[player] - ties[player];
+    }
+
+    /**
+     * @param player the index of a player
+     * @return the part of the pot won on average by the player, between 0 and 1
+     */
+    public double getEquity (int player) {
+        return (samples == 0) ? 0 : (wins[player] + shares[player]) / samples;
+    }
+
+    public double getWinPercent (int player) {
+        return percent(wins[player]);
+    }
+
+    public double getTiePercent (int player) {
+        return percent(ties[player]);
+    }
+
+    public double getLossPercent (int player) {
+        return percent(getLosses(player));
+    }
+
+    /**
+     * @param player the index of a player
+     * @param type a result type
+     * @return the percent of the boards where the best hand of the player is of this type
+     */
+    public double getTypePercent (int player, ResultType type) {
+        return percent(types[player][type.ordinal()]);
+    }
+
+    // -- Override methods --
+    @Override
+    public String toString () {
+        StringBuilder f = new StringBuilder();
+        for (int p = 0; p < wins.length; p++) {
+            f.append(String.format("Joueur %d : %.2f%% (gagne %.2f%%, egalite %.2f%%, perd %.2f%%)%n", p + 1,
+                    getEquity(p) * 100, getWinPercent(p), getTiePercent(p), getLossPercent(p)));
+        }
+        return f.toString();
+    }
+
+    // -- Private methods --
+    private double percent (long count) {
+        return (samples == 0) ? 0 : count * 100.0 / samples;
+    }
+}
@@ -0,0 +1,86 @@
+package equity;
+
+import hands.BitHand;
+import hands.Hand;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * This class compute the exact equity of several players by evaluating every possible completion of the
+ * board. It's meant for heads-up spots with a known flop or turn (990 or 44 boards), but works for any
+ * number of players with at most 2 hole cards each and any known board : without board, the 1,712,304 boards
+ * of a heads-up are evaluated.<br>
+ *
+ * The boards are partitioned by their lowest card : each partition is evaluated by one worker with its own
+ * counters, and the counters are merged at the end, without any lock.
+ */
+
+public class ExhaustiveEquity {
+    // -- Static fields --
+    private static final int BOARD_SIZE = 5;
+
+    // -- Computation methods --
+    /**
+     * Compute the exact equity of the players
+     * @param players the hole cards of each player
+     * @param board the known cards of the board, null or empty if there is none
+     * @return the equity of each player, in the same order
+     * @throws IllegalArgumentException if a card is used twice or if there is too many cards
+     */
+    public EquityResult compute (List<Hand> players, Hand board) throws IllegalArgumentException {
+        long[] masks = new long[players.size()];
+        for (int p = 0; p < masks.length; p++) {
+            masks[p] = BitHand.maskOf(players.get(p));
+        }
+        return compute(masks, (board == null) ? 0 : BitHand.maskOf(board));
+    }
+
+    /**
+     * Compute the exact equity of the players
+     * @param players the mask of the hole cards of each player
+     * @param board the mask of the known cards of the board
+     * @return the equity of each player, in the same order
+     * @throws IllegalArgumentException if a card is used twice or if there is too many cards
+     */
+    public EquityResult compute (long[] players, long board) throws IllegalArgumentException {
+        int[] deck = KnownCards.remainingDeck(KnownCards.check(players, board));
+        int missing = BOARD_SIZE - Long.bitCount(board);
+
+        if (missing == 0) {
+            Tally tally = new Tally(players);
+            tally.record(board);
+            return tally.toResult();
+        }
+
+        return IntStream.range(0, deck.length - missing + 1).parallel()
+                .mapToObj(first -> {
+                    Tally tally = new Tally(players);
+                    enumerate(deck, first + 1, missing - 1, board | (1L << deck[first]), tally);
+                    return tally;
+                })
+                .reduce(Tally::merge)
+                .orElseThrow()
+                .toResult();
+    }
+
+    // -- Private methods --
+    /**
+     * Record every board made of the current board and some cards of the deck
+     * @param deck the cards that are not known
+     * @param from the index of the first card of the deck that can be added
+     * @param missing the number of cards to add
+     * @param board the mask of the current board
+     * @param tally the counters of the worker
+     */
+    private static void enumerate (int[] deck, int from, int missing, long board, Tally tally) {
+        if (missing == 0) {
+            tally.record(board);
+            return;
+        }
+
+        for (int i = from; i <= deck.length - missing; i++) {
+            enumerate(deck, i + 1, missing - 1, board | (1L << deck[i]), tally);
+        }
+    }
+}
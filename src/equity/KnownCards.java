@@ -0,0 +1,65 @@
+package equity;
+
+import cards.Card;
+
+/**
+ * Checks of the known cards of an equity computation, and the deck of the cards left. They are shared by the
+ * computations of the package, each one keeping its own way to deal the board.
+ */
+
+final class KnownCards {
+    // -- Static fields --
+    private static final int BOARD_SIZE = 5;
+    private static final int MAX_CARDS = 7;
+
+    // -- Constructor --
+    private KnownCards () {
+    }
+
+    // -- Static methods --
+    /**
+     * Check that the board has at most 5 cards
+     * @param board the mask of the known cards of the board
+     * @return the mask of the board
+     * @throws IllegalArgumentException if there is too many cards
+     */
+    static long check (long board) throws IllegalArgumentException {
+        if (Long.bitCount(board) > BOARD_SIZE)
+            throw new IllegalArgumentException("A board is composed of 5 cards at most");
+        return board;
+    }
+
+    /**
+     * Check that the players and the board don't share a card and that each player has at most 7 cards once
+     * the board is complete, the most the {@link hands.HandEvaluator} can evaluate
+     * @param players the mask of the hole cards of each player
+     * @param board the mask of the known cards of the board
+     * @return the mask of all the known cards
+     * @throws IllegalArgumentException if a card is used twice or if there is too many cards
+     */
+    static long check (long[] players, long board) throws IllegalArgumentException {
+        long dead = check(board);
+        for (long player : players) {
+            if ((dead & player) != 0)
+                throw new IllegalArgumentException("Card already existing");
+            if (Long.bitCount(player) + BOARD_SIZE > MAX_CARDS)
+                throw new IllegalArgumentException("A player can't have more than 7 cards with the board");
+            dead |= player;
+        }
+        return dead;
+    }
+
+    /**
+     * @param dead the mask of the known cards
+     * @return the codes of the cards that are not known, from the lowest
+     */
+    static int[] remainingDeck (long dead) {
+        int[] deck = new int[Card.DECK_SIZE - Long.bitCount(dead)];
+        int size = 0;
+        for (int code = 0; code < Card.DECK_SIZE; code++) {
+            if ((dead & (1L << code)) == 0)
+                deck[size++] = code;
+        }
+        return deck;
+    }
+}
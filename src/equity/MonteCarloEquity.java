@@ -0,0 +1,155 @@
+package equity;
+
+import cards.Deck;
+import cards.RandomSource;
+import hands.BitHand;
+import hands.Hand;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * This class estimate the equity of several players by sampling random completions of the board. The
+ * samples are split between the cores : each worker has its own {@link SplittableRandom} and its own
+ * counters, merged after each round. The computation stop when the 95% confidence interval of every
+ * equity is small enough, when the time budget is spent or when the maximum number of samples is reached.<br>
+ *
+ * The same seed and configuration give the same result only when the computation stop on the confidence
+ * interval or on the maximum number of samples. A stop on the time budget depends on the speed of the
+ * machine, so the number of samples and the result can change from a run to another.
+ */
+
+public class MonteCarloEquity {
+    // -- Static fields --
+    private static final int BOARD_SIZE = 5;
+
+    // -- Fields --
+    private final long seed;
+    private final int nbWorkers;
+
+    private double targetHalfWidth = 0.005;
+    private long timeBudget = 1000;
+    private long maxSamples = 10_000_000;
+    private int roundSamples = 20_000;
+
+    // -- Constructors --
+    /**
+     * @param seed the seed of the random generators, the same seed and configuration give the same result
+     *             unless the computation stop on the time budget
+     */
+    public MonteCarloEquity (long seed) {
+        this(seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param seed the seed of the random generators
+     * @param nbWorkers the number of workers a round is split in
+     */
+    public MonteCarloEquity (long seed, int nbWorkers) {
+        this.seed = seed;
+        this.nbWorkers = Math.max(1, nbWorkers);
+    }
+
+    // -- Setters --
+    /**
+     * @param targetHalfWidth the half width of the 95% confidence interval, as a part of the pot (0.005 means
+     *                        plus or minus 0.5%), under which the computation stop. 0 to never stop on it
+     */
+    public void setTargetHalfWidth (double targetHalfWidth) {
+        this.targetHalfWidth = targetHalfWidth;
+    }
+
+    /**
+     * @param timeBudget the time in milliseconds after which the computation stop. A run stopped by it can't be
+     *                   reproduced, {@link Long#MAX_VALUE} to never stop on it
+     */
+    public void setTimeBudget (long timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    public void setMaxSamples (long maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * @param roundSamples the number of samples of a round, after which the stop conditions are checked
+     */
+    public void setRoundSamples (int roundSamples) {
+        this.roundSamples = Math.max(nbWorkers, roundSamples);
+    }
+
+    // -- Computation methods --
+    /**
+     * Estimate the equity of the players
+     * @param players the hole cards of each player
+     * @param board the known cards of the board, null or empty if there is none
+     * @return the equity of each player, in the same order
+     * @throws IllegalArgumentException if a card is used twice or if there is too many cards
+     */
+    public EquityResult compute (List<Hand> players, Hand board) throws IllegalArgumentException {
+        long[] masks = new long[players.size()];
+        for (int p = 0; p < masks.length; p++) {
+            masks[p] = BitHand.maskOf(players.get(p));
+        }
+        return compute(masks, (board == null) ? 0 : BitHand.maskOf(board));
+    }
+
+    /**
+     * Estimate the equity of the players
+     * @param players the mask of the hole cards of each player
+     * @param board the mask of the known cards of the board
+     * @return the equity of each player, in the same order
+     * @throws IllegalArgumentException if a card is used twice or if there is too many cards
+     */
+    public EquityResult compute (long[] players, long board) throws IllegalArgumentException {
+        long dead = KnownCards.check(players, board);
+        int missing = BOARD_SIZE - Long.bitCount(board);
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[nbWorkers];
+        for (int w = 0; w < nbWorkers; w++) {
+            randoms[w] = root.split();
+        }
+
+        long start = System.currentTimeMillis();
+        Tally total = new Tally(players);
+
+        while (true) {
+            int perWorker = (int) Math.min(roundSamples / nbWorkers,
+                    Math.max(1, (maxSamples - total.getSamples()) / nbWorkers));
+
+            Tally round = IntStream.range(0, nbWorkers).parallel()
+                    .mapToObj(w -> sample(players, board, dead, missing, randoms[w], perWorker))
+                    .reduce(Tally::merge)
+                    .orElseThrow();
+            total.merge(round);
+
+            if (missing == 0
+                    || total.getSamples() >= maxSamples
+                    || System.currentTimeMillis() - start >= timeBudget
+                    || total.getHalfWidth() <= targetHalfWidth)
+                break;
+        }
+
+        return total.toResult();
+    }
+
+    // -- Private methods --
+    /**
+     * Sample some boards in one worker, using its own {@link Deck} without the known cards
+     */
+    private static Tally sample (long[] players, long board, long dead, int missing,
+                                 SplittableRandom random, int nbSamples) {
+        Deck deck = new Deck(dead);
+        RandomSource source = random::nextInt;
+        Tally tally = new Tally(players);
+
+        for (int n = 0; n < nbSamples; n++) {
+            deck.reset();
+            tally.record(board | deck.dealMask(missing, source));
+        }
+
+        return tally;
+    }
+}
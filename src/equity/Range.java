@@ -0,0 +1,417 @@
+package equity;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import hands.HandBuilder;
+
+import java.util.Arrays;
+
+/**
+ * This class is a range of hole cards : a set of combos of two cards, each with a weight between 0 and 1
+ * (the part of the time the player has this combo).<br>
+ *
+ * A range is written as a list of classes of hands separated by commas, for example "QQ+, AKs, T9s-76s" :<br>
+ *     - "QQ" is every pair of queens, "AK" every ace-king, "AKs" the suited ones and "AKo" the offsuit ones<br>
+ *     - "QQ+" is QQ and the better pairs, "ATs+" is ATs, AJs, AQs and AKs (the kicker is raised)<br>
+ *     - "QQ-88" is the pairs from 88 to QQ, "A5s-A2s" the kickers from 2 to 5 and "T9s-76s" the suited
+ *       connectors from 76 to T9<br>
+ *     - a single combo is written as its two cards in the {@link HandBuilder} grammar, for example "APiRCo"<br>
+ *     - ":weight" after a class or a combo give it a weight, for example "AKo:0.5"<br>
+ * The values are written with the letters of the {@link HandBuilder} grammar (V, D, R, A and 10) or with the
+ * usual letters (T, J, Q, K and A). A combo written twice keeps its last weight.<br>
+ *
+ * {@link #toString()} writes a range in this notation, so it can be parsed back.
+ */
+
+public final class Range {
+    // -- Static fields --
+    /** Number of different combos of two cards */
+    public static final int NB_COMBOS = 1326;
+
+    private static final Value[] VALUES = Value.values();
+    private static final Color[] COLORS = Color.values();
+    // The usual letter of each value, by ordinal
+    private static final String LETTERS = "23456789TJQKA";
+
+    private static final int ANY = 0;
+    private static final int SUITED = 1;
+    private static final int OFFSUIT = 2;
+
+    // -- Fields --
+    // The combos in the order they were added, and their weights
+    private final long[] masks = new long[NB_COMBOS];
+    private final double[] weights = new double[NB_COMBOS];
+    private int size = 0;
+
+    // The position of each combo in the arrays, indexed by combo index, -1 if the combo is not in the range
+    private final short[] positions = new short[NB_COMBOS];
+
+    // -- Constructors --
+    /**
+     * Create an empty range
+     */
+    public Range () {
+        Arrays.fill(positions, (short) -1);
+    }
+
+    /**
+     * Parse a range written in the range notation
+     * @param notation the range, for example "QQ+, AKs, T9s-76s:0.5"
+     * @return the range
+     * @throws IllegalArgumentException if the notation is not well written
+     */
+    public static Range parse (String notation) throws IllegalArgumentException {
+        Range range = new Range();
+
+        for (String item : notation.split(",")) {
+            if (!item.isBlank())
+                range.addItem(item.trim());
+        }
+        return range;
+    }
+
+    // -- Methods --
+    /**
+     * Add a combo to the range, or change its weight if it's already in
+     * @param code1 the packed code of a card
+     * @param code2 the packed code of the other card
+     * @param weight the weight of the combo, between 0 and 1
+     * @throws IllegalArgumentException if the two cards are the same or if the weight is not between 0 and 1
+     */
+    public void add (int code1, int code2, double weight) throws IllegalArgumentException {
+        if (code1 == code2)
+            throw new IllegalArgumentException("Card already existing");
+        if (!(weight >= 0 && weight <= 1))
+            throw new IllegalArgumentException("The weight of a combo must be between 0 and 1");
+
+        int index = indexOf(code1, code2);
+        if (positions[index] < 0) {
+            positions[index] = (short) size;
+            masks[size++] = (1L << code1) | (1L << code2);
+        }
+        weights[positions[index]] = weight;
+    }
+
+    /**
+     * @return the number of combos of the range
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * @param i the position of a combo, between 0 and {@link #size()} - 1
+     * @return the mask of the two cards of the combo
+     */
+    public long getMask (int i) {
+        return masks[i];
+    }
+
+    /**
+     * @param i the position of a combo, between 0 and {@link #size()} - 1
+     * @return the weight of the combo
+     */
+    public double getWeight (int i) {
+        return weights[i];
+    }
+
+    /**
+     * @param mask the mask of the two cards of a combo
+     * @return the weight of the combo, 0 if it's not in the range
+     */
+    public double getWeightOf (long mask) {
+        int position = positions[indexOf(mask)];
+        return (position < 0) ? 0 : weights[position];
+    }
+
+    /**
+     * @return the sum of the weights of the combos
+     */
+    public double getTotalWeight () {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += weights[i];
+        }
+        return total;
+    }
+
+    // -- Override methods --
+    /**
+     * Write the range in the range notation, from the highest values. A class of hands is written when the
+     * range holds all its combos with the same weight, the other combos are written one by one.
+     * @return the range, as read by {@link #parse(String)}
+     */
+    @Override
+    public String toString () {
+        StringBuilder f = new StringBuilder();
+        for (int high = VALUES.length - 1; high >= 0; high--) {
+            for (int low = high; low >= 0; low--) {
+                if (high == low)
+                    appendClass(f, high, low, ANY, true);
+                else if (!appendClass(f, high, low, ANY, false)) {
+                    appendClass(f, high, low, SUITED, true);
+                    appendClass(f, high, low, OFFSUIT, true);
+                }
+            }
+        }
+        return f.toString();
+    }
+
+    // -- Package methods --
+    /**
+     * @param mask the mask of the two cards of a combo
+     * @return the index of the combo, between 0 and {@link #NB_COMBOS} - 1
+     */
+    static int indexOf (long mask) {
+        return indexOf(Long.numberOfTrailingZeros(mask), 63 - Long.numberOfLeadingZeros(mask));
+    }
+
+    // -- Private methods --
+    /**
+     * @return the colexicographic index of the two cards, as in {@link hands.HandIndex}
+     */
+    private static int indexOf (int code1, int code2) {
+        int low = Math.min(code1, code2), high = Math.max(code1, code2);
+        return high * (high - 1) / 2 + low;
+    }
+
+    /**
+     * Add a class of hands written as "AKs", "QQ+", "T9s-76s" or "AKo:0.5"
+     */
+    private void addItem (String item) throws IllegalArgumentException {
+        double weight = 1;
+        int colon = item.indexOf(':');
+        if (colon >= 0) {
+            try {
+                weight = Double.parseDouble(item.substring(colon + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Bad weight : " + item);
+            }
+            item = item.substring(0, colon).trim();
+        }
+
+        int[] combo = parseCombo(item);
+        if (combo != null) {
+            add(combo[0], combo[1], weight);
+            return;
+        }
+
+        int dash = item.indexOf('-');
+        if (dash < 0) {
+            addSpec(parseSpec(item), weight);
+            return;
+        }
+
+        int[] first = parseSpec(item.substring(0, dash).trim());
+        int[] last = parseSpec(item.substring(dash + 1).trim());
+        if (first[3] != 0 || last[3] != 0 || first[2] != last[2])
+            throw new IllegalArgumentException("Bad range of hands : " + item);
+
+        if (first[0] == first[1] && last[0] == last[1]) {
+            // Pairs : QQ-88
+            for (int v = Math.min(first[0], last[0]); v <= Math.max(first[0], last[0]); v++) {
+                addClass(v, v, first[2], weight);
+            }
+        } else if (first[0] == last[0] && first[0] != first[1] && last[0] != last[1]) {
+            // Kickers : A5s-A2s
+            for (int v = Math.min(first[1], last[1]); v <= Math.max(first[1], last[1]); v++) {
+                addClass(first[0], v, first[2], weight);
+            }
+        } else if (first[0] - first[1] == last[0] - last[1] && first[0] != first[1]) {
+            // Same gap : T9s-76s
+            int gap = first[0] - first[1];
+            for (int v = Math.min(first[0], last[0]); v <= Math.max(first[0], last[0]); v++) {
+                addClass(v, v - gap, first[2], weight);
+            }
+        } else {
+            throw new IllegalArgumentException("Bad range of hands : " + item);
+        }
+    }
+
+    /**
+     * Add a class of hands that is not a range, with its '+'
+     */
+    private void addSpec (int[] spec, double weight) {
+        int high = spec[0], low = spec[1], suit = spec[2];
+
+        if (spec[3] == 0)
+            addClass(high, low, suit, weight);
+        else if (high == low) {
+            for (int v = high; v < VALUES.length; v++) {
+                addClass(v, v, suit, weight);
+            }
+        } else {
+            for (int v = low; v < high; v++) {
+                addClass(high, v, suit, weight);
+            }
+        }
+    }
+
+    /**
+     * Parse a combo written as two cards of the {@link HandBuilder} grammar, for example "APiRCo"
+     * @return the packed codes of the two cards, null if the item is not a combo
+     */
+    private static int[] parseCombo (String item) {
+        // A card is written with 3 or 4 characters
+        for (int split = 3; split <= 4; split++) {
+            if (item.length() < split + 3)
+                break;
+
+            int code1 = HandBuilder.tryParseCard(item, 0, split);
+            int code2 = HandBuilder.tryParseCard(item, split, item.length());
+            if (code1 >= 0 && code2 >= 0)
+                return new int[] {code1, code2};
+        }
+        return null;
+    }
+
+    /**
+     * Parse a class of hands written as {value}{value}[s|o][+]
+     * @return the highest value ordinal, the lowest value ordinal, the suit (ANY, SUITED or OFFSUIT) and 1 if
+     *         there is a '+'
+     */
+    private static int[] parseSpec (String spec) throws IllegalArgumentException {
+        int[] values = new int[2];
+        int i = 0;
+
+        for (int n = 0; n < 2; n++) {
+            if (i >= spec.length())
+                throw new IllegalArgumentException("Bad class of hands : " + spec);
+
+            if (spec.startsWith("10", i)) {
+                values[n] = Value.ten.ordinal();
+                i += 2;
+            } else {
+                values[n] = valueOf(spec.charAt(i));
+                i++;
+            }
+            if (values[n] < 0)
+                throw new IllegalArgumentException("Bad class of hands : " + spec);
+        }
+
+        int suit = ANY;
+        if (i < spec.length() && spec.charAt(i) == 's') {
+            suit = SUITED;
+            i++;
+        } else if (i < spec.length() && spec.charAt(i) == 'o') {
+            suit = OFFSUIT;
+            i++;
+        }
+
+        int plus = 0;
+        if (i < spec.length() && spec.charAt(i) == '+') {
+            plus = 1;
+            i++;
+        }
+
+        if (i != spec.length() || (values[0] == values[1] && suit != ANY))
+            throw new IllegalArgumentException("Bad class of hands : " + spec);
+
+        return new int[] {Math.max(values[0], values[1]), Math.min(values[0], values[1]), suit, plus};
+    }
+
+    /**
+     * @return the value ordinal of a letter, -1 if the letter is not a value
+     */
+    private static int valueOf (char c) {
+        if (c >= '2' && c <= '9')
+            return c - '2';
+
+        switch (c) {
+            case 'T':
+                return Value.ten.ordinal();
+            case 'J':
+            case 'V':
+                return Value.jack.ordinal();
+            case 'Q':
+            case 'D':
+                return Value.queen.ordinal();
+            case 'K':
+            case 'R':
+                return Value.king.ordinal();
+            case 'A':
+                return Value.ace.ordinal();
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Add every combo of two values
+     */
+    private void addClass (int high, int low, int suit, double weight) {
+        for (Color color1 : COLORS) {
+            for (Color color2 : COLORS) {
+                if (inClass(high, low, suit, color1, color2))
+                    add(Card.encode(VALUES[high], color1), Card.encode(VALUES[low], color2), weight);
+            }
+        }
+    }
+
+    /**
+     * @return true if the cards of these values and colors are a combo of the class of hands
+     */
+    private static boolean inClass (int high, int low, int suit, Color color1, Color color2) {
+        if (high == low)
+            return color1.ordinal() < color2.ordinal();
+        else if (suit == SUITED)
+            return color1 == color2;
+        else if (suit == OFFSUIT)
+            return color1 != color2;
+        else
+            return true;
+    }
+
+    /**
+     * Append a class of hands if the range holds all its combos with the same weight, or else its combos of
+     * the range one by one when asked
+     * @return true if the whole class was appended
+     */
+    private boolean appendClass (StringBuilder f, int high, int low, int suit, boolean combos) {
+        int first = -1;
+        boolean whole = true;
+        for (Color color1 : COLORS) {
+            for (Color color2 : COLORS) {
+                if (!inClass(high, low, suit, color1, color2))
+                    continue;
+
+                int position = positions[indexOf(Card.encode(VALUES[high], color1),
+                        Card.encode(VALUES[low], color2))];
+                if (position < 0 || (first >= 0 && weights[position] != weights[first]))
+                    whole = false;
+                if (first < 0 && position >= 0)
+                    first = position;
+            }
+        }
+
+        if (whole) {
+            String name = "" + LETTERS.charAt(high) + LETTERS.charAt(low);
+            appendItem(f, (suit == SUITED) ? name + 's' : (suit == OFFSUIT) ? name + 'o' : name, weights[first]);
+            return true;
+        }
+
+        if (combos) {
+            for (Color color1 : COLORS) {
+                for (Color color2 : COLORS) {
+                    if (!inClass(high, low, suit, color1, color2))
+                        continue;
+
+                    int code1 = Card.encode(VALUES[high], color1), code2 = Card.encode(VALUES[low], color2);
+                    int position = positions[indexOf(code1, code2)];
+                    if (position >= 0)
+                        appendItem(f, HandBuilder.toToken(code1) + HandBuilder.toToken(code2), weights[position]);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void appendItem (StringBuilder f, String item, double weight) {
+        if (f.length() > 0)
+            f.append(", ");
+        f.append(item);
+        if (weight != 1)
+            f.append(':').append(weight);
+    }
+}
@@ -0,0 +1,151 @@
+package equity;
+
+import cards.Deck;
+import cards.RandomSource;
+import hands.BitHand;
+import hands.Hand;
+import hands.HandIndex;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * This class compute the equity of a range against another range, for each combo and for the whole ranges.
+ * The combos that share a card with the board or with each other are never dealt together.<br>
+ *
+ * When the board has few completions (a flop, a turn or a river), every completion is evaluated and the
+ * result is exact. Otherwise (before the flop), a fixed number of random boards is evaluated. Each board is
+ * evaluated against every pair of combos at once (see {@link RangeTally}), and the boards are split between
+ * the cores, each worker with its own counters.
+ */
+
+public class RangeEquity {
+    // -- Static fields --
+    private static final int BOARD_SIZE = 5;
+
+    // -- Fields --
+    private final long seed;
+    private final int nbWorkers;
+
+    private int maxBoards = 5_000;
+
+    // -- Constructors --
+    /**
+     * @param seed the seed of the random boards, the same seed and configuration give the same result
+     */
+    public RangeEquity (long seed) {
+        this(seed, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param seed the seed of the random boards
+     * @param nbWorkers the number of workers the random boards are split in
+     */
+    public RangeEquity (long seed, int nbWorkers) {
+        this.seed = seed;
+        this.nbWorkers = Math.max(1, nbWorkers);
+    }
+
+    // -- Setters --
+    /**
+     * @param maxBoards the number of boards above which the boards are sampled instead of all evaluated, and
+     *                  the number of sampled boards
+     */
+    public void setMaxBoards (int maxBoards) {
+        this.maxBoards = Math.max(1, maxBoards);
+    }
+
+    // -- Computation methods --
+    /**
+     * Compute the equity of a range against another
+     * @param range1 the range of the first player
+     * @param range2 the range of the second player
+     * @param board the known cards of the board, null or empty if there is none
+     * @return the equity of both ranges and of their combos
+     * @throws IllegalArgumentException if the board is too big or if no combo can be dealt against the other
+     *                                  range
+     */
+    public RangeEquityResult compute (Range range1, Range range2, Hand board) throws IllegalArgumentException {
+        return compute(range1, range2, (board == null) ? 0 : BitHand.maskOf(board));
+    }
+
+    /**
+     * Compute the equity of a range against another
+     * @param range1 the range of the first player
+     * @param range2 the range of the second player
+     * @param board the mask of the known cards of the board
+     * @return the equity of both ranges and of their combos
+     * @throws IllegalArgumentException if the board is too big or if no combo can be dealt against the other
+     *                                  range
+     */
+    public RangeEquityResult compute (Range range1, Range range2, long board) throws IllegalArgumentException {
+        int[] deck = KnownCards.remainingDeck(KnownCards.check(board));
+        int missing = BOARD_SIZE - Long.bitCount(board);
+
+        RangeEquityResult result;
+        if (missing == 0) {
+            RangeTally tally = new RangeTally(range1, range2);
+            tally.record(board);
+            result = tally.toResult(true);
+        } else if (HandIndex.binomial(deck.length, missing) <= maxBoards) {
+            result = IntStream.range(0, deck.length - missing + 1).parallel()
+                    .mapToObj(first -> {
+                        RangeTally tally = new RangeTally(range1, range2);
+                        enumerate(deck, first + 1, missing - 1, board | (1L << deck[first]), tally);
+                        return tally;
+                    })
+                    .reduce(RangeTally::merge)
+                    .orElseThrow()
+                    .toResult(true);
+        } else {
+            SplittableRandom root = new SplittableRandom(seed);
+            SplittableRandom[] randoms = new SplittableRandom[nbWorkers];
+            for (int w = 0; w < nbWorkers; w++) {
+                randoms[w] = root.split();
+            }
+
+            result = IntStream.range(0, nbWorkers).parallel()
+                    .mapToObj(w -> sample(range1, range2, board, missing, randoms[w],
+                            maxBoards / nbWorkers + ((w < maxBoards % nbWorkers) ? 1 : 0)))
+                    .reduce(RangeTally::merge)
+                    .orElseThrow()
+                    .toResult(false);
+        }
+
+        if (Double.isNaN(result.getEquity(0)))
+            throw new IllegalArgumentException("No combo of the ranges can be dealt against the other range");
+        return result;
+    }
+
+    // -- Private methods --
+    /**
+     * Record every board made of the current board and some cards of the deck
+     */
+    private static void enumerate (int[] deck, int from, int missing, long board, RangeTally tally) {
+        if (missing == 0) {
+            tally.record(board);
+            return;
+        }
+
+        for (int i = from; i <= deck.length - missing; i++) {
+            enumerate(deck, i + 1, missing - 1, board | (1L << deck[i]), tally);
+        }
+    }
+
+    /**
+     * Sample some boards in one worker, using its own {@link Deck} without the cards of the board
+     */
+    private static RangeTally sample (Range range1, Range range2, long board, int missing,
+                                      SplittableRandom random, int nbBoards) {
+        Deck deck = new Deck(board);
+        RandomSource source = random::nextInt;
+        RangeTally tally = new RangeTally(range1, range2);
+
+        for (int n = 0; n < nbBoards; n++) {
+            deck.reset();
+            tally.record(board | deck.dealMask(missing, source));
+        }
+
+        return tally;
+    }
+}
@@ -0,0 +1,116 @@
+package equity;
+
+/**
+ * This class is the result of a range against range computation : the equity of each combo of both ranges
+ * and the equity of each range. The equity of a combo is the part of the pot it wins on average against the
+ * combos of the other range that don't share a card with it, each one counted with its weight.
+ */
+
+public class RangeEquityResult {
+    // -- Fields --
+    private final long boards;
+    private final boolean exact;
+    private final Range[] ranges;
+    private final double[][] wins;
+    private final double[][] ties;
+    private final double[][] totals;
+
+    // -- Constructor --
+    /**
+     * @param boards the number of evaluated boards
+     * @param exact true if every board was evaluated, false if the boards were sampled
+     * @param ranges the two ranges
+     * @param wins for each combo of each range, the weight of the combos beaten on all the boards
+     * @param ties for each combo of each range, the weight of the combos tied on all the boards
+     * @param totals for each combo of each range, the weight of the combos met on all the boards
+     */
+    public RangeEquityResult (long boards, boolean exact, Range[] ranges, double[][] wins, double[][] ties,
+                              double[][] totals) {
+        this.boards = boards;
+        this.exact = exact;
+        this.ranges = ranges;
+        this.wins = wins;
+        this.ties = ties;
+        this.totals = totals;
+    }
+
+    // -- Getters --
+    public long getBoards () {
+        return boards;
+    }
+
+    public boolean isExact () {
+        return exact;
+    }
+
+    /**
+     * @param player 0 for the first range, 1 for the second
+     * @return the range of the player
+     */
+    public Range getRange (int player) {
+        return ranges[player];
+    }
+
+    /**
+     * @param player 0 for the first range, 1 for the second
+     * @return the part of the pot won on average by the range, between 0 and 1
+     */
+    public double getEquity (int player) {
+        double won = 0, met = 0;
+        for (int i = 0; i < ranges[player].size(); i++) {
+            double weight = ranges[player].getWeight(i);
+            won += weight * (wins[player][i] + ties[player][i] / 2);
+            met += weight * totals[player][i];
+        }
+        return (met == 0) ? Double.NaN : won / met;
+    }
+
+    /**
+     * @param player 0 for the first range, 1 for the second
+     * @return the percent of the deals where the range win alone
+     */
+    public double getWinPercent (int player) {
+        return percent(player, wins[player]);
+    }
+
+    /**
+     * @param player 0 for the first range, 1 for the second
+     * @return the percent of the deals where the two ranges share the pot
+     */
+    public double getTiePercent (int player) {
+        return percent(player, ties[player]);
+    }
+
+    /**
+     * @param player 0 for the first range, 1 for the second
+     * @param i the position of a combo in the range of the player
+     * @return the part of the pot won on average by the combo, NaN if the combo can't be dealt against the
+     *         other range
+     */
+    public double getComboEquity (int player, int i) {
+        double met = totals[player][i];
+        return (met == 0) ? Double.NaN : (wins[player][i] + ties[player][i] / 2) / met;
+    }
+
+    // -- Override methods --
+    @Override
+    public String toString () {
+        StringBuilder f = new StringBuilder();
+        for (int p = 0; p < ranges.length; p++) {
+            f.append(String.format("Range %d : %.2f%% (gagne %.2f%%, egalite %.2f%%)%n", p + 1,
+                    getEquity(p) * 100, getWinPercent(p), getTiePercent(p)));
+        }
+        return f.toString();
+    }
+
+    // -- Private methods --
+    private double percent (int player, double[] counts) {
+        double part = 0, met = 0;
+        for (int i = 0; i < ranges[player].size(); i++) {
+            double weight = ranges[player].getWeight(i);
+            part += weight * counts[i];
+            met += weight * totals[player][i];
+        }
+        return (met == 0) ? 0 : part * 100 / met;
+    }
+}
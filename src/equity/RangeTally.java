@@ -0,0 +1,257 @@
+package equity;
+
+import cards.Card;
+import hands.HandEvaluator;
+
+import java.util.Arrays;
+
+/**
+ * Counters of one worker of a range against range computation. Each worker has its own tally, and the tallies
+ * are merged at the end, as with {@link Tally}.<br>
+ *
+ * On each board, the combos of both ranges are evaluated once and sorted by strength, with the running sum of
+ * their weights. The combos of a range are then walked by increasing strength along the sorted combos of the
+ * other range, so the weight of the combos a combo beats is read from the sums instead of comparing it with
+ * every combo of the other range. The combos that share a card with it are removed with the same sums kept
+ * for each card : the combos holding one of its two cards are subtracted, and the combo holding both,
+ * subtracted twice, is added back.
+ */
+
+final class RangeTally {
+    // -- Static fields --
+    private static final int INDEX_BITS = 11;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    // A strength use 24 bits, sorted 8 bits at a time
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_PASSES = 3;
+
+    // -- Fields --
+    private final Side[] sides;
+    private long boards;
+
+    // -- Constructor --
+    RangeTally (Range range1, Range range2) {
+        sides = new Side[] {new Side(range1, range2), new Side(range2, range1)};
+    }
+
+    // -- Methods --
+    /**
+     * Evaluate the combos of both ranges on a board and count the weight of the combos each one beats
+     * @param board the mask of the cards of the board
+     */
+    void record (long board) {
+        sides[0].evaluate(board);
+        sides[1].evaluate(board);
+        sides[0].count(sides[1]);
+        sides[1].count(sides[0]);
+        boards++;
+    }
+
+    /**
+     * Add the counters of another tally to this one
+     */
+    RangeTally merge (RangeTally other) {
+        boards += other.boards;
+        for (int s = 0; s < sides.length; s++) {
+            sides[s].merge(other.sides[s]);
+        }
+        return this;
+    }
+
+    RangeEquityResult toResult (boolean exact) {
+        Range[] ranges = {sides[0].range, sides[1].range};
+        double[][] wins = {sides[0].wins.clone(), sides[1].wins.clone()};
+        double[][] ties = {sides[0].ties.clone(), sides[1].ties.clone()};
+        double[][] totals = {sides[0].totals.clone(), sides[1].totals.clone()};
+        return new RangeEquityResult(boards, exact, ranges, wins, ties, totals);
+    }
+
+    // -- Side --
+    /**
+     * The combos of one range, their strengths on the current board and their counters
+     */
+    private static final class Side {
+        private final Range range;
+        private final int size;
+        private final int[] lowCodes;
+        private final int[] highCodes;
+        // The weight of the same combo in the other range
+        private final double[] sameWeights;
+
+        // Strength of each combo on the board, -1 if it can't be dealt
+        private final int[] strengths;
+        private final long[] keys;
+        private final long[] sortBuffer;
+        private final int[] radixCounts = new int[1 << RADIX_BITS];
+        private int nbLive;
+
+        // The strengths of the live combos in increasing order and the sum of the weights before each one
+        private final int[] sortedStrengths;
+        private final double[] prefix;
+        // The same for the combos holding each card
+        private final int[] cardCounts = new int[Card.DECK_SIZE];
+        private final int[][] cardStrengths = new int[Card.DECK_SIZE][Card.DECK_SIZE - 1];
+        private final double[][] cardPrefix = new double[Card.DECK_SIZE][Card.DECK_SIZE];
+        // The positions reached in the arrays of the other side while counting
+        private final int[] cardBelow = new int[Card.DECK_SIZE];
+        private final int[] cardUpTo = new int[Card.DECK_SIZE];
+
+        // Weight of the combos of the other range beaten, tied and met by each combo
+        private final double[] wins;
+        private final double[] ties;
+        private final double[] totals;
+
+        private Side (Range range, Range other) {
+            this.range = range;
+            size = range.size();
+            lowCodes = new int[size];
+            highCodes = new int[size];
+            sameWeights = new double[size];
+            for (int i = 0; i < size; i++) {
+                long mask = range.getMask(i);
+                lowCodes[i] = Long.numberOfTrailingZeros(mask);
+                highCodes[i] = 63 - Long.numberOfLeadingZeros(mask);
+                sameWeights[i] = other.getWeightOf(mask);
+            }
+
+            strengths = new int[size];
+            keys = new long[size];
+            sortBuffer = new long[size];
+            sortedStrengths = new int[size];
+            prefix = new double[size + 1];
+            wins = new double[size];
+            ties = new double[size];
+            totals = new double[size];
+        }
+
+        /**
+         * Evaluate the combos that don't share a card with the board, and sort them by strength
+         */
+        private void evaluate (long board) {
+            nbLive = 0;
+            for (int i = 0; i < size; i++) {
+                long mask = range.getMask(i);
+                if ((mask & board) != 0 || range.getWeight(i) == 0) {
+                    strengths[i] = -1;
+                    continue;
+                }
+                strengths[i] = HandEvaluator.evaluateMask(mask | board);
+                keys[nbLive++] = ((long) strengths[i] << INDEX_BITS) | i;
+            }
+            sortKeys();
+
+            Arrays.fill(cardCounts, 0);
+            for (int k = 0; k < nbLive; k++) {
+                int i = (int) (keys[k] & INDEX_MASK);
+                int strength = strengths[i];
+                double weight = range.getWeight(i);
+
+                sortedStrengths[k] = strength;
+                prefix[k + 1] = prefix[k] + weight;
+                addToCard(lowCodes[i], strength, weight);
+                addToCard(highCodes[i], strength, weight);
+            }
+        }
+
+        /**
+         * Count the weight of the combos of the other side beaten and tied by each combo of this side. The
+         * combos are taken by increasing strength, so the positions in the sorted arrays of the other side only
+         * move forward
+         */
+        private void count (Side other) {
+            int below = 0, upTo = 0;
+            Arrays.fill(cardBelow, 0);
+            Arrays.fill(cardUpTo, 0);
+
+            for (int k = 0; k < nbLive; k++) {
+                int i = (int) (keys[k] & INDEX_MASK);
+                int strength = strengths[i];
+                int low = lowCodes[i], high = highCodes[i];
+
+                below = advance(other.sortedStrengths, other.nbLive, below, strength - 1);
+                upTo = advance(other.sortedStrengths, other.nbLive, Math.max(upTo, below), strength);
+                advanceCard(other, low, strength);
+                advanceCard(other, high, strength);
+
+                double[] lowPrefix = other.cardPrefix[low], highPrefix = other.cardPrefix[high];
+                double same = sameWeights[i];
+                double won = other.prefix[below] - lowPrefix[cardBelow[low]] - highPrefix[cardBelow[high]];
+                double tied = other.prefix[upTo] - lowPrefix[cardUpTo[low]] - highPrefix[cardUpTo[high]] + same
+                        - won;
+                double met = other.prefix[other.nbLive] - lowPrefix[other.cardCounts[low]]
+                        - highPrefix[other.cardCounts[high]] + same;
+
+                wins[i] += won;
+                ties[i] += tied;
+                totals[i] += met;
+            }
+        }
+
+        /**
+         * Move the positions in the combos of the other side holding a card to a strength
+         */
+        private void advanceCard (Side other, int card, int strength) {
+            int[] sorted = other.cardStrengths[card];
+            int length = other.cardCounts[card];
+            cardBelow[card] = advance(sorted, length, cardBelow[card], strength - 1);
+            cardUpTo[card] = advance(sorted, length, Math.max(cardUpTo[card], cardBelow[card]), strength);
+        }
+
+        /**
+         * Sort the keys of the live combos by strength with a radix sort, faster than a comparison sort on the
+         * few thousands of keys of a board
+         */
+        private void sortKeys () {
+            long[] from = keys, to = sortBuffer;
+            for (int pass = 0; pass < RADIX_PASSES; pass++) {
+                int shift = INDEX_BITS + pass * RADIX_BITS;
+                Arrays.fill(radixCounts, 0);
+                for (int k = 0; k < nbLive; k++) {
+                    radixCounts[(int) (from[k] >>> shift) & (radixCounts.length - 1)]++;
+                }
+
+                int position = 0;
+                for (int digit = 0; digit < radixCounts.length; digit++) {
+                    int count = radixCounts[digit];
+                    radixCounts[digit] = position;
+                    position += count;
+                }
+
+                for (int k = 0; k < nbLive; k++) {
+                    to[radixCounts[(int) (from[k] >>> shift) & (radixCounts.length - 1)]++] = from[k];
+                }
+                long[] swap = from;
+                from = to;
+                to = swap;
+            }
+
+            // After an odd number of passes, the sorted keys are in the buffer
+            if (from != keys)
+                System.arraycopy(from, 0, keys, 0, nbLive);
+        }
+
+        private void addToCard (int card, int strength, double weight) {
+            int n = cardCounts[card]++;
+            cardStrengths[card][n] = strength;
+            cardPrefix[card][n + 1] = cardPrefix[card][n] + weight;
+        }
+
+        private void merge (Side other) {
+            for (int i = 0; i < size; i++) {
+                wins[i] += other.wins[i];
+                ties[i] += other.ties[i];
+                totals[i] += other.totals[i];
+            }
+        }
+
+        /**
+         * @return the first position from the given one where the sorted value is above the key
+         */
+        private static int advance (int[] sorted, int length, int from, int key) {
+            while (from < length && sorted[from] <= key) {
+                from++;
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package equity;
+
+import hands.HandEvaluator;
+import interaction.ResultType;
+
+/**
+ * Counters of one worker of an equity computation. Each worker has its own tally, and the tallies are
+ * merged at the end, so the workers never share a counter.
+ */
+
+final class Tally {
+    // -- Fields --
+    private final long[] players;
+    private final int[] strengths;
+
+    private long samples;
+    private final long[] wins;
+    private final long[] ties;
+    private final double[] shares;
+    // Number of boards of each result type (by ordinal) for each player
+    private final long[][] types;
+
+    // -- Constructor --
+    /**
+     * @param players the mask of the known cards of each player
+     */
+    Tally (long[] players) {
+        this.players = players;
+        strengths = new int[players.length];
+        wins = new long[players.length];
+        ties = new long[players.length];
+        shares = new double[players.length];
+        types = new long[players.length][ResultType.values().length];
+    }
+
+    // -- Methods --
+    /**
+     * Evaluate the hand of each player on a board and count who win
+     * @param board the mask of the cards of the board
+     */
+    void record (long board) {
+        int best = -1;
+        int nbBest = 0;
+
+        for (int p = 0; p < players.length; p++) {
+            int strength = HandEvaluator.evaluateMask(players[p] | board);
+            strengths[p] = strength;
+            types[p][HandEvaluator.getResultType(strength).ordinal()]++;
+
+            if (strength > best) {
+                best = strength;
+                nbBest = 1;
+            } else if (strength == best) {
+                nbBest++;
+            }
+        }
+
+        samples++;
+        if (nbBest == 1) {
+            for (int p = 0; p < players.length; p++) {
+                if (strengths[p] == best) {
+                    wins[p]++;
+                    break;
+                }
+            }
+        } else {
+            double share = 1.0 / nbBest;
+            for (int p = 0; p < players.length; p++) {
+                if (strengths[p] == best) {
+                    ties[p]++;
+                    shares[p] += share;
+                }
+            }
+        }
+    }
+
+    /**
+     * Add the counters of another tally to this one
+     */
+    Tally merge (Tally other) {
+        samples += other.samples;
+        for (int p = 0; p < players.length; p++) {
+            wins[p] += other.wins[p];
+            ties[p] += other.ties[p];
+            shares[p] += other.shares[p];
+            for (int t = 0; t < types[p].length; t++) {
+                types[p][t] += other.types[p][t];
+            }
+        }
+        return this;
+    }
+
+    long getSamples () {
+        return samples;
+    }
+
+    /**
+     * @return the largest half width of the 95% confidence interval of the equities
+     */
+    double getHalfWidth () {
+        double largest = 0;
+        for (int p = 0; p < players.length; p++) {
+            double equity = (wins[p] + shares[p]) / samples;
+            largest = Math.max(largest, 1.96 * Math.sqrt(equity * (1 - equity) / samples));
+        }
+        return largest;
+    }
+
+    EquityResult toResult () {
+        long[][] typesCopy = new long[types.length][];
+        for (int p = 0; p < types.length; p++) {
+            typesCopy[p] = types[p].clone();
+        }
+        return new EquityResult(samples, wins.clone(), ties.clone(), shares.clone(), typesCopy);
+    }
+}
@@ -0,0 +1,321 @@
+package hands;
+
+import cards.Card;
+
+/**
+ * A compact and immutable representation of a set of cards. The cards are stored in a 52-bit mask where the
+ * bit n is set when the card of packed code n (see {@link Card#encode(int, int)}) is in the hand. Because the
+ * value is in the upper bits of a code, each value owns a group of four consecutive bits (one per color).
+ * The 13-bit mask of values of each color is also kept, so color and value detections are mask operations.<br>
+ *
+ * The static methods work directly on a raw mask, so they can be used without creating an object.
+ */
+
+public final class BitHand {
+    // -- Static fields --
+    /** Mask of the 13 bits of the values */
+    public static final int ALL_VALUES = 0x1FFF;
+
+    // One bit per value, on the lowest bit of each 4-bit group
+    private static final long LOW_BITS = 0x1111111111111L;
+    private static final int NB_COLORS = 4;
+    private static final int COLOR_SHIFT = 16;
+
+    // -- Fields --
+    private final long mask;
+    // The 13-bit values mask of each color, each color using 16 bits
+    private final long colorMasks;
+
+    // -- Constructors --
+    private BitHand (long mask) {
+        this.mask = mask;
+
+        long masks = 0;
+        for (int color = 0; color < NB_COLORS; color++) {
+            masks |= ((long) colorValues(mask, color)) << (color * COLOR_SHIFT);
+        }
+        this.colorMasks = masks;
+    }
+
+    // -- Factories --
+    /**
+     * @param mask a mask of card codes
+     * @return the hand that contains the cards of the mask
+     */
+    public static BitHand ofMask (long mask) {
+        return new BitHand(mask);
+    }
+
+    /**
+     * @param codes some packed card codes
+     * @return the hand that contains those cards
+     */
+    public static BitHand of (int... codes) {
+        long mask = 0;
+        for (int code : codes) {
+            mask |= 1L << code;
+        }
+        return new BitHand(mask);
+    }
+
+    /**
+     * @param index the {@link HandIndex index} of a 5-card hand
+     * @return the hand of this index
+     * @throws IllegalArgumentException if the index is out of bounds
+     */
+    public static BitHand ofIndex (int index) throws IllegalArgumentException {
+        return new BitHand(HandIndex.maskOf(index));
+    }
+
+    /**
+     * Convert a {@link Hand} in its compact representation
+     * @param hand a hand where all the cards have a color
+     * @return the compact representation of the hand
+     * @throws IllegalArgumentException if a card of the hand has no color
+     */
+    public static BitHand of (Hand hand) throws IllegalArgumentException {
+        return new BitHand(maskOf(hand));
+    }
+
+    /**
+     * @param cards some cards that all have a color, a {@link Hand} for example
+     * @return the mask of the cards
+     * @throws IllegalArgumentException if a card has no color
+     */
+    public static long maskOf (Iterable<Card> cards) throws IllegalArgumentException {
+        long mask = 0;
+        for (Card c : cards) {
+            if (c.getCode() < 0)
+                throw new IllegalArgumentException("A card without color can't be in a mask");
+            mask |= 1L << c.getCode();
+        }
+        return mask;
+    }
+
+    // -- Getters --
+    public long getMask () {
+        return mask;
+    }
+
+    /**
+     * @return the number of cards in the hand
+     */
+    public int size () {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * @return the {@link HandIndex index} of the hand, between 0 and 2,598,959
+     * @throws IllegalStateException if the hand doesn't have 5 cards
+     */
+    public int getIndex () throws IllegalStateException {
+        if (size() != HandIndex.HAND_SIZE)
+            throw new IllegalStateException("Only a hand of 5 cards has an index");
+        return HandIndex.indexOf(mask);
+    }
+
+    /**
+     * @param code a packed card code
+     * @return true if the card is in the hand
+     */
+    public boolean contains (int code) {
+        return (mask & (1L << code)) != 0;
+    }
+
+    /**
+     * @param color a color ordinal
+     * @return the 13-bit mask of the values of this color in the hand
+     */
+    public int getColorValues (int color) {
+        return (int) (colorMasks >>> (color * COLOR_SHIFT)) & ALL_VALUES;
+    }
+
+    /**
+     * @return the 13-bit mask of the values in the hand
+     */
+    public int getValues () {
+        return (int) (colorMasks | colorMasks >>> 16 | colorMasks >>> 32 | colorMasks >>> 48) & ALL_VALUES;
+    }
+
+    // -- Detections --
+    /**
+     * @return the ordinal of the highest value of the flush, -1 if there is no color with at least 5 cards
+     */
+    public int getFlush () {
+        for (int color = 0; color < NB_COLORS; color++) {
+            int values = getColorValues(color);
+            if (Integer.bitCount(values) >= 5)
+                return highestValue(values);
+        }
+        return -1;
+    }
+
+    /**
+     * @return the ordinal of the highest value of the straight, -1 if there is no straight
+     */
+    public int getStraight () {
+        return straight(getValues());
+    }
+
+    /**
+     * @return the ordinal of the highest value of the straight flush, -1 if there is no straight flush
+     */
+    public int getStraightFlush () {
+        int best = -1;
+        for (int color = 0; color < NB_COLORS; color++) {
+            best = Math.max(best, straight(getColorValues(color)));
+        }
+        return best;
+    }
+
+    /**
+     * @return the 13-bit mask of the values that appear exactly two times
+     */
+    public int getPairs () {
+        return pairs(mask);
+    }
+
+    /**
+     * @return the 13-bit mask of the values that appear exactly three times
+     */
+    public int getTrips () {
+        return trips(mask);
+    }
+
+    /**
+     * @return the 13-bit mask of the values that appear four times
+     */
+    public int getQuads () {
+        return quads(mask);
+    }
+
+    // -- Conversions --
+    /**
+     * @return the packed codes of the cards, from the lowest code to the highest
+     */
+    public int[] toCodes () {
+        int[] codes = new int[size()];
+        long remaining = mask;
+        for (int i = 0; remaining != 0; i++) {
+            codes[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return codes;
+    }
+
+    /**
+     * @return a {@link Hand} that contains the shared instances of the cards, from the lowest to the highest
+     * @throws ArrayIndexOutOfBoundsException if there is too many cards for a {@link Hand}
+     */
+    public Hand toHand () throws ArrayIndexOutOfBoundsException {
+        Hand hand = new Hand();
+        long remaining = mask;
+        while (remaining != 0) {
+            hand.add(Card.of(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+        return hand;
+    }
+
+    // -- Override methods --
+    @Override
+    public boolean equals (Object obj) {
+        return (obj instanceof BitHand) && ((BitHand) obj).mask == mask;
+    }
+
+    @Override
+    public int hashCode () {
+        return Long.hashCode(mask);
+    }
+
+    @Override
+    public String toString () {
+        StringBuilder f = new StringBuilder();
+        for (int code : toCodes()) {
+            f.append(Card.of(code).toString());
+            f.append(" ");
+        }
+        return f.toString();
+    }
+
+    // -- Static mask methods --
+    /**
+     * @param mask a mask of card codes
+     * @param color a color ordinal
+     * @return the 13-bit mask of the values of this color in the mask
+     */
+    public static int colorValues (long mask, int color) {
+        return compress((mask >>> color) & LOW_BITS);
+    }
+
+    /**
+     * @param mask a mask of card codes
+     * @return the 13-bit mask of the values in the mask
+     */
+    public static int values (long mask) {
+        return compress((mask | mask >>> 1 | mask >>> 2 | mask >>> 3) & LOW_BITS);
+    }
+
+    /**
+     * @param mask a mask of card codes
+     * @return the 13-bit mask of the values that appear exactly two times
+     */
+    public static int pairs (long mask) {
+        long counts = counts(mask);
+        return compress((counts >>> 1) & ~counts & LOW_BITS);
+    }
+
+    /**
+     * @param mask a mask of card codes
+     * @return the 13-bit mask of the values that appear exactly three times
+     */
+    public static int trips (long mask) {
+        long counts = counts(mask);
+        return compress(counts & (counts >>> 1) & LOW_BITS);
+    }
+
+    /**
+     * @param mask a mask of card codes
+     * @return the 13-bit mask of the values that appear four times
+     */
+    public static int quads (long mask) {
+        return compress((counts(mask) >>> 2) & LOW_BITS);
+    }
+
+    /**
+     * @param values a 13-bit mask of values
+     * @return the ordinal of the highest value of a straight in the values, -1 if there is none
+     */
+    public static int straight (int values) {
+        int straights = values & (values >>> 1) & (values >>> 2) & (values >>> 3) & (values >>> 4);
+        // As in Hand#isStraight, the ace is only a high card
+        return (straights == 0) ? -1 : highestValue(straights) + 4;
+    }
+
+    /**
+     * @param values a 13-bit mask of values
+     * @return the ordinal of the highest value of the mask, -1 if the mask is empty
+     */
+    public static int highestValue (int values) {
+        return 31 - Integer.numberOfLeadingZeros(values);
+    }
+
+    /**
+     * Count the cards of each value : each 4-bit group of the result contains the number of cards
+     * (between 0 and 4) of the value
+     */
+    private static long counts (long mask) {
+        long pairsCount = mask - ((mask >>> 1) & 0x5555555555555555L);
+        return (pairsCount & 0x3333333333333333L) + ((pairsCount >>> 2) & 0x3333333333333333L);
+    }
+
+    /**
+     * Move the lowest bit of each 4-bit group (bit 4n) to the bit n
+     */
+    private static int compress (long bits) {
+        bits = (bits | bits >>> 3) & 0x0303030303030303L;
+        bits = (bits | bits >>> 6) & 0x000F000F000F000FL;
+        bits = (bits | bits >>> 12) & 0x000000FF000000FFL;
+        return (int) (bits | bits >>> 24) & 0xFFFF;
+    }
+}
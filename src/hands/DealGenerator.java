@@ -0,0 +1,243 @@
+package hands;
+
+import cards.Card;
+import cards.Deck;
+import cards.RandomSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * This class generate random pairs of hands to load the {@link HandComparator}. The deals only depend on the
+ * seed and the configuration, so a stream can be generated again.<br>
+ *
+ * Some deals can be forced :<br>
+ *     - a flush deal give a flush to both hands, so the flushes are compared to each other<br>
+ *     - a tie deal give the same values to both hands with other colors, so the hands end on a draw. The
+ *       values can make a pair, two pairs or a straight, but never a flush, a trip or a quad<br>
+ * The other deals are 10 random cards of the deck.<br>
+ *
+ * The deals are written one by line as "hand1 | hand2", the grammar read by {@link HandBuilder} and by the
+ * batch mode of the command line. The lines are built from a table of bytes, without any string.
+ */
+
+public final class DealGenerator {
+    // -- Static fields --
+    private static final int HAND_SIZE = 5;
+    private static final int NB_VALUES = 13;
+    private static final int NB_COLORS = 4;
+    private static final int MAX_PERCENT = 10000;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_LINE_LENGTH = 64;
+
+    // The bytes of each card, indexed by packed code
+    private static final byte[][] TOKENS = new byte[Card.DECK_SIZE][];
+    private static final byte[] SEPARATOR = " | ".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (int code = 0; code < Card.DECK_SIZE; code++) {
+            TOKENS[code] = HandBuilder.toToken(code).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    // -- Fields --
+    private final SplittableRandom random;
+    private final RandomSource source;
+    private final Deck deck;
+    private final byte[] values = new byte[NB_VALUES];
+
+    // Hundredths of percent
+    private int flushPercent = 0;
+    private int tiePercent = 0;
+
+    // -- Constructors --
+    /**
+     * @param seed the seed of the deals
+     */
+    public DealGenerator (long seed) {
+        random = new SplittableRandom(seed);
+        source = random::nextInt;
+        deck = new Deck();
+    }
+
+    // -- Setters --
+    /**
+     * @param flushPercent the percentage of deals where both hands are flushes
+     * @throws IllegalArgumentException if the percentage is negative or if the sum of the percentages is above
+     *                                  100, the mix is then not changed
+     */
+    public void setFlushPercent (double flushPercent) throws IllegalArgumentException {
+        int percent = (int) Math.round(flushPercent * 100);
+        checkPercents(percent, tiePercent);
+        this.flushPercent = percent;
+    }
+
+    /**
+     * @param tiePercent the percentage of deals where both hands have the same values
+     * @throws IllegalArgumentException if the percentage is negative or if the sum of the percentages is above
+     *                                  100, the mix is then not changed
+     */
+    public void setTiePercent (double tiePercent) throws IllegalArgumentException {
+        int percent = (int) Math.round(tiePercent * 100);
+        checkPercents(flushPercent, percent);
+        this.tiePercent = percent;
+    }
+
+    // -- Deal methods --
+    /**
+     * Deal a pair of hands
+     * @param cards the array where the {@link HandComparator#PAIR_LENGTH} packed card codes are written
+     * @param offset the index of the first code in the array
+     */
+    public void nextDeal (byte[] cards, int offset) {
+        int draw = random.nextInt(MAX_PERCENT);
+
+        if (draw < flushPercent)
+            dealFlushes(cards, offset);
+        else if (draw < flushPercent + tiePercent)
+            dealTie(cards, offset);
+        else {
+            deck.reset();
+            deck.deal(HandComparator.PAIR_LENGTH, source, cards, offset);
+        }
+    }
+
+    /**
+     * Write some deals, one by line
+     * @param out the stream where the deals are written
+     * @param nbDeals the number of deals
+     * @return the number of bytes written
+     * @throws IOException if the stream can't be written
+     */
+    public long write (OutputStream out, long nbDeals) throws IOException {
+        byte[] cards = new byte[HandComparator.PAIR_LENGTH];
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length = 0;
+        long total = 0;
+
+        for (long n = 0; n < nbDeals; n++) {
+            nextDeal(cards, 0);
+            length = format(cards, 0, buffer, length);
+
+            if (length > BUFFER_SIZE - MAX_LINE_LENGTH) {
+                out.write(buffer, 0, length);
+                total += length;
+                length = 0;
+            }
+        }
+
+        out.write(buffer, 0, length);
+        out.flush();
+        return total + length;
+    }
+
+    /**
+     * Write a pair of hands as a line "hand1 | hand2"
+     * @param cards the packed card codes of the pair
+     * @param offset the index of the first code of the pair
+     * @param dest the array where the line is written, with its end of line
+     * @param destOffset the index of the first byte of the line
+     * @return the index after the end of the line
+     */
+    public static int format (byte[] cards, int offset, byte[] dest, int destOffset) {
+        for (int i = 0; i < HandComparator.PAIR_LENGTH; i++) {
+            if (i == HAND_SIZE) {
+                System.arraycopy(SEPARATOR, 0, dest, destOffset, SEPARATOR.length);
+                destOffset += SEPARATOR.length;
+            } else if (i > 0) {
+                dest[destOffset++] = ' ';
+            }
+
+            byte[] token = TOKENS[cards[offset + i]];
+            System.arraycopy(token, 0, dest, destOffset, token.length);
+            destOffset += token.length;
+        }
+
+        dest[destOffset++] = '\n';
+        return destOffset;
+    }
+
+    // -- Private methods --
+    /**
+     * Deal a flush to each hand, the two colors can be the same
+     */
+    private void dealFlushes (byte[] cards, int offset) {
+        int color1 = random.nextInt(NB_COLORS);
+        int color2 = random.nextInt(NB_COLORS);
+
+        int used = dealValues(0, color1, cards, offset);
+        dealValues((color1 == color2) ? used : 0, color2, cards, offset + HAND_SIZE);
+    }
+
+    /**
+     * Deal 5 different values of one color
+     * @param usedValues the mask of the values that can't be dealt
+     * @return the mask of the dealt values, with the used ones
+     */
+    private int dealValues (int usedValues, int color, byte[] cards, int offset) {
+        int size = 0;
+        for (int v = 0; v < NB_VALUES; v++) {
+            if ((usedValues & (1 << v)) == 0)
+                values[size++] = (byte) v;
+        }
+
+        // Partial Fisher-Yates shuffle of the values
+        for (int i = 0; i < HAND_SIZE; i++) {
+            int j = i + random.nextInt(size - i);
+            byte value = values[j];
+            values[j] = values[i];
+            values[i] = value;
+
+            cards[offset + i] = (byte) Card.encode(value, color);
+            usedValues |= 1 << value;
+        }
+        return usedValues;
+    }
+
+    /**
+     * Deal a hand that is not a flush and has no trip, then the same values with other colors
+     */
+    private void dealTie (byte[] cards, int offset) {
+        while (true) {
+            deck.reset();
+            deck.deal(HAND_SIZE, source, cards, offset);
+            long used = deck.getDealt();
+            if (BitHand.ofMask(used).getFlush() >= 0 || BitHand.trips(used) != 0 || BitHand.quads(used) != 0)
+                continue;
+
+            int colors = 0;
+            for (int i = 0; i < HAND_SIZE; i++) {
+                int value = Card.valueOrdinal(cards[offset + i]);
+
+                // A random color among the colors of the value that are not used
+                int free = (int) (~used >>> (value * NB_COLORS)) & 0xF;
+                int color = nthBit(free, random.nextInt(Integer.bitCount(free)));
+
+                int code = Card.encode(value, color);
+                used |= 1L << code;
+                colors |= 1 << color;
+                // The cards of the second hand are not in the same order as the first one
+                int j = random.nextInt(i + 1);
+                cards[offset + HAND_SIZE + i] = cards[offset + HAND_SIZE + j];
+                cards[offset + HAND_SIZE + j] = (byte) code;
+            }
+
+            if (Integer.bitCount(colors) > 1)
+                return;
+        }
+    }
+
+    private static int nthBit (int bits, int n) {
+        for (int i = 0; i < n; i++) {
+            bits &= bits - 1;
+        }
+        return Integer.numberOfTrailingZeros(bits);
+    }
+
+    private static void checkPercents (int flushPercent, int tiePercent) {
+        if (flushPercent < 0 || tiePercent < 0 || flushPercent + tiePercent > MAX_PERCENT)
+            throw new IllegalArgumentException("The percentages must be positive and their sum at most 100");
+    }
+}
@@ -0,0 +1,86 @@
+package hands;
+
+import cards.Deck;
+import cards.RandomSource;
+
+/**
+ * Deal random hands from a {@link Deck}, in the forms used by the rest of the project : a {@link Hand}, an
+ * {@link ImmutableHand}, a mask for the {@link HandEvaluator} and the tables, or packed card codes for
+ * {@link HandComparator#compareAll(byte[], int, int, int[], int)}.<br>
+ *
+ * Each deal starts with {@link #newDeal()}, so the cards of a deal are all different. The packed forms don't
+ * create any object. A dealer is not synchronized : each thread should use its own dealer.
+ */
+
+public final class Dealer {
+    // -- Static fields --
+    private static final int HAND_SIZE = 5;
+
+    // -- Fields --
+    private final Deck deck;
+    private final RandomSource random;
+
+    // -- Constructors --
+    /**
+     * @param random the source of random numbers, a seeded source give the same deals
+     */
+    public Dealer (RandomSource random) {
+        this(random, 0);
+    }
+
+    /**
+     * @param random the source of random numbers
+     * @param dead the mask of the cards that are never dealt
+     */
+    public Dealer (RandomSource random, long dead) {
+        this.deck = new Deck(dead);
+        this.random = random;
+    }
+
+    // -- Deal methods --
+    /**
+     * Put all the cards back in the deck
+     */
+    public void newDeal () {
+        deck.reset();
+    }
+
+    /**
+     * @return a new hand of 5 cards of the deal
+     */
+    public Hand dealHand () {
+        return BitHand.ofMask(dealMask(HAND_SIZE)).toHand();
+    }
+
+    /**
+     * @return an immutable hand of 5 cards of the deal
+     */
+    public ImmutableHand dealImmutableHand () {
+        return ImmutableHand.ofMask(dealMask(HAND_SIZE));
+    }
+
+    /**
+     * @param n a number of cards
+     * @return the mask of n cards of the deal
+     */
+    public long dealMask (int n) {
+        return deck.dealMask(n, random);
+    }
+
+    /**
+     * Deal a new pair of hands as {@link HandComparator#PAIR_LENGTH} packed card codes
+     * @param cards the array where the codes are written
+     * @param offset the index of the first code in the array
+     */
+    public void dealPair (byte[] cards, int offset) {
+        deck.reset();
+        deck.deal(HandComparator.PAIR_LENGTH, random, cards, offset);
+    }
+
+    /**
+     * @return the deck of the dealer
+     */
+    public Deck getDeck () {
+        return deck;
+    }
+}
@@ -0,0 +1,56 @@
+package hands;
+
+/**
+ * The cards already dealt in a deal, kept as a 52-bit mask of packed card codes. A context is owned by its
+ * caller and is given to {@link HandBuilder#parse(String, DeckContext)}, so the parsing itself keeps no
+ * state. A context is not synchronized : each thread should use its own contexts, one by deal.
+ */
+
+public final class DeckContext {
+    // -- Fields --
+    private long mask;
+
+    // -- Constructors --
+    public DeckContext () {
+        mask = 0;
+    }
+
+    /**
+     * @param mask the mask of the cards already dealt
+     */
+    public DeckContext (long mask) {
+        this.mask = mask;
+    }
+
+    // -- Getters --
+    /**
+     * @return the mask of the packed codes of the cards already dealt
+     */
+    public long getMask () {
+        return mask;
+    }
+
+    /**
+     * @param code a packed card code
+     * @return true if the card is already dealt
+     */
+    public boolean contains (int code) {
+        return (mask & (1L << code)) != 0;
+    }
+
+    // -- Deal methods --
+    /**
+     * Deal some cards
+     * @param cards a mask of packed card codes
+     */
+    public void add (long cards) {
+        mask |= cards;
+    }
+
+    /**
+     * Start a new deal, all the cards can be dealt again
+     */
+    public void reset () {
+        mask = 0;
+    }
+}
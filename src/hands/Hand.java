@@ -18,6 +18,10 @@ public class Hand extends ArrayList<Card> {
     // -- Attributes --
     private static final int MAX_SIZE = 5;
 
+    // The profile of the cards, computed on demand and kept until the hand is modified
+    private transient HandProfile profile;
+    private transient int profileModCount;
+
     // Use default constructors
 
     // -- Override method --
@@ -33,27 +37,48 @@ public class Hand extends ArrayList<Card> {
     public boolean add(Card card) throws ArrayIndexOutOfBoundsException {
         if (this.size() + 1 > MAX_SIZE)
             throw new ArrayIndexOutOfBoundsException("Too many cards in the hand");
+        profile = null;
         return super.add(card);
     }
 
+    @Override
+    public Card set(int index, Card card) {
+        // Unlike the other modifications, a replacement doesn't change the modCount
+        profile = null;
+        return super.set(index, card);
+    }
+
+    /**
+     * The view of the list writes its replacements straight in the array of the hand, without the set of
+     * the hand. So the view returned here clears the profile on each replacement.
+     * @return a view of the cards between the two indexes
+     */
+    @Override
+    public List<Card> subList (int fromIndex, int toIndex) {
+        return new SubList(super.subList(fromIndex, toIndex));
+    }
+
+    // -- Profile --
+    /**
+     * Give the profile of the cards. It's computed once and kept until the hand is modified : the additions
+     * and removals change the modCount of the list, and a replaced card clear the profile.
+     * @return the profile of the hand
+     */
+    public HandProfile getProfile () {
+        if (profile == null || profileModCount != modCount) {
+            profile = new HandProfile(this);
+            profileModCount = modCount;
+        }
+        return profile;
+    }
+
     // -- Other methods --
     /**
      * Return the card with the highest value
      * @return a card
      */
     public Card getHighestCard () {
-        if (isEmpty())
-            return null;
-
-        Card highest = this.get(0);
-
-        for (Card c : this) {
-            if (c.compareTo(highest) > 0) {
-                highest = c;
-            }
-        }
-
-        return highest;
+        return getProfile().getHighestCard();
     }
 
 
@@ -62,21 +87,9 @@ public class Hand extends ArrayList<Card> {
      * @return the higher pair card in the hand, null if there is no pair in the hand
      */
     public Card getPairCards () {
-        Card cardMax = null;
-        for (int i = 0; i <this.size(); i++) {
-            for (int j = 0; j < this.size(); j++) {
-
-                if (i !=j && this.get(i).getValue() == this.get(j).getValue()) {
-                    if (cardMax == null || this.get(i).compareTo(cardMax) > 0) {
-                        cardMax = this.get(i);
-                    }
-                }
-
-            }
-        }
-
-
-        return cardMax;
+        HandProfile p = getProfile();
+        int paired = p.getValues() & ~(p.getValuesWithCount(1));
+        return (paired == 0) ? null : p.getFirstOfValue(BitHand.highestValue(paired));
     }
 
     /**
@@ -85,30 +98,28 @@ public class Hand extends ArrayList<Card> {
      * if we have a brelan or more, null also
      */
     public AbstractMap.SimpleEntry<Card, Card> getDoublePairCards() {
+        HandProfile p = getProfile();
 
         Card pairCard1 = null;
         Card pairCard2 = null;
 
-
-        for (int  i = 0; i < this.size() ; i++) {
-            for (int j = 0; j < this.size(); j++) {
-
-                if (i != j && this.get(i).getValue() == this.get(j).getValue()) {
-
-                    if (pairCard1 == null || this.get(i).getValue() != pairCard2.getValue()) {
-                        pairCard1= this.get(i);
-                    }
-                    if (pairCard2 == null || this.get(i).getValue() != pairCard1.getValue()) {
-                        pairCard2= this.get(i);
-                    }
-                }
-
+        // Only the cards that have a cousin (same value) are read, in the order of the hand
+        for (Card c : this) {
+            if (p.getCount(c.getValue().ordinal()) < 2)
+                continue;
+
+            if (pairCard1 == null) {
+                pairCard1 = c;
+                pairCard2 = c;
+            } else if (c.getValue() != pairCard2.getValue()) {
+                pairCard1 = c;
+            } else if (c.getValue() != pairCard1.getValue()) {
+                pairCard2 = c;
             }
         }
 
-
         //On gère l'exception du brelan, car si brelan, alors pairCard1 = pairCard2
-        if (pairCard1 != null && pairCard2 != null && pairCard1.getValue() == pairCard2.getValue()) {
+        if (pairCard1 != null && pairCard1.getValue() == pairCard2.getValue()) {
             pairCard2 = null;
         }
 
@@ -123,68 +134,32 @@ public class Hand extends ArrayList<Card> {
      * @return the higher pair card in the hand, null if there is no brolens in the hand
      */
     public Card getBrelan() {
-        ArrayList<Card> brelans = getCardWhichHaveNLessOneOtherSameValuedCard(3);
-
-        if(brelans.size() != 0) {
-            int max = 0;
-            for(int i = 1; i < brelans.size(); i++) {
-                if(brelans.get(i).compareTo(brelans.get(max)) > 0) {     //brelans.get(i).getValue() > brelans.get(max).getValue()) {
-                    max = i;
-                }
-            }
-
-            return brelans.get(max);
-        }
-        return null;
+        int brelans = getProfile().getValuesWithCount(3);
+        return (brelans == 0) ? null : getProfile().getFirstOfValue(BitHand.highestValue(brelans));
     }
 
     public Value[] getFull(){
-        Map<Value, Integer> nbOccur = getNbOccurOfValues();
-        Value brelan = null , pair = null;
-        for (Value v : nbOccur.keySet()) {
-            if (nbOccur.get(v) == 3 && brelan == null) {
-                brelan = v;
-            }
-            if (nbOccur.get(v) == 2 && pair == null){
-                pair = v;
-            }
-        }
-        if (brelan == null || pair == null) return null;
-        return new Value[]{brelan, pair};
+        int brelans = getProfile().getValuesWithCount(3);
+        int pairs = getProfile().getValuesWithCount(2);
+
+        if (brelans == 0 || pairs == 0) return null;
+        Value[] values = Value.values();
+        return new Value[]{values[BitHand.highestValue(brelans)], values[BitHand.highestValue(pairs)]};
     }
 
 
     /**
      * This method return the cards which have the n cousin (Same value) in the hand.
      *
-     * I had an {@link java.lang.ArrayIndexOutOfBoundsException ArrayIndexOutOfException} when calling with getBrelan
-     * (Index 14 out of bounds for length 13)
-     *
-     * @return an Array of card (can be empty)
+     * @return an Array of card (can be empty), the first card of each value from the lowest value
      */
     ArrayList<Card> getCardWhichHaveNLessOneOtherSameValuedCard(int n) {
-        // J'avais pas d'idée pour le nom :)
-
-        Hand hand = new Hand();
-        hand.addAll(this);
+        HandProfile p = getProfile();
+        int values = p.getValuesWithCount(n);
 
-        Card[] instanceOfCardByValues = new Card[13];
-        int[] powerOfValues = new int[13];
-
-
-        for (Card card : hand) {
-            int value = card.getValue().ordinal();
-            powerOfValues[value]++;
-            if (instanceOfCardByValues[value] == null) {
-                instanceOfCardByValues[value] = card;
-            }
-        }
-
-        ArrayList<Card> results = new ArrayList<>();
-        for(int i = 0; i < 13; i++) {
-            if(powerOfValues[i] == n) {
-                results.add(instanceOfCardByValues[i]);
-            }
+        ArrayList<Card> results = new ArrayList<>(Integer.bitCount(values));
+        for (; values != 0; values &= values - 1) {
+            results.add(p.getFirstOfValue(Integer.numberOfTrailingZeros(values)));
         }
 
         return results;
@@ -199,21 +174,12 @@ public class Hand extends ArrayList<Card> {
         if (isEmpty() || size() < MAX_SIZE)
             return null;
 
-        Color firstColor = this.get(0).getColor();
-
-        for (Card c : this) {
-            if (!c.getColor().equals(firstColor)) {
-                return null;
-            }
-        }
-
-
-        return getHighestCard();
+        return getProfile().isOneColor() ? getHighestCard() : null;
     }
 
     /**
-     * This method will sort the hand from the less to higher value. And will then check that there is only
-     * 1 as difference between the values of 2 consecutive cards.
+     * This method will check that the values of the cards follow each other, with 1 as difference between
+     * two consecutive values. The hand isn't modified.
      * @return the highest card of the list if it's a suite, null otherwise
      */
     public Card isStraight() {
@@ -221,19 +187,7 @@ public class Hand extends ArrayList<Card> {
             return null;
         }
 
-        // This will sort the list from the less to higher value
-        this.sort(Card::compareTo);
-
-        int previousValue = this.get(0).getValue().ordinal();
-
-        for (int i = 1; i < this.size(); i++) {
-            if (Math.abs(previousValue - this.get(i).getValue().ordinal()) != 1) {
-                return null;
-            }
-            previousValue = this.get(i).getValue().ordinal();
-        }
-
-        return this.get(this.size() - 1);
+        return getProfile().isSequence() ? getHighestCard() : null;
     }
 
     /**
@@ -262,20 +216,6 @@ public class Hand extends ArrayList<Card> {
         return f.toString();
     }
 
-    private Map<Value,Integer> getNbOccurOfValues () {
-        Map<Value, Integer> res = new HashMap<>();
-
-        for (Card c : this) {
-            if (res.containsKey(c.getValue())) {
-                res.put(c.getValue(), res.get(c.getValue()) + 1);
-            } else {
-                res.put(c.getValue(), 1);
-            }
-        }
-
-        return res;
-    }
-
     /**
      * This method will if the hand is a quite square.
      */
@@ -296,4 +236,79 @@ public class Hand extends ArrayList<Card> {
 
         this.removeAll(toRemove);
     }
-}
\ No newline at end of file
+
+    /**
+     * Give the category of the hand and its deciding values in one pass over the cards
+     * @return the classification of the hand
+     */
+    public HandClassification classify () {
+        return HandClassification.of(this);
+    }
+
+    /**
+     * Give the index of the hand in the 52-choose-5 space. The index doesn't depend on the order of the
+     * cards, so it's a compact key for a hand of 5 cards.
+     * @return the {@link HandIndex index} of the hand, between 0 and 2,598,959
+     * @throws IllegalStateException if the hand doesn't have 5 cards
+     * @throws IllegalArgumentException if a card has no color
+     */
+    public int getIndex () throws IllegalStateException, IllegalArgumentException {
+        if (size() != MAX_SIZE)
+            throw new IllegalStateException("Only a hand of 5 cards has an index");
+        return HandIndex.indexOf(BitHand.maskOf(this));
+    }
+
+    /**
+     * @param index the {@link HandIndex index} of a hand
+     * @return the hand of this index, with its cards from the lowest to the highest
+     * @throws IllegalArgumentException if the index is out of bounds
+     */
+    public static Hand ofIndex (int index) throws IllegalArgumentException {
+        return BitHand.ofIndex(index).toHand();
+    }
+
+    // -- Sub list --
+    /**
+     * A view of some cards of the hand that clears the profile of the hand when a card is replaced. The
+     * additions and removals are done by the sub list of {@link ArrayList}, which increments the modCount of
+     * the hand itself, so {@link #getProfile()} sees them without any help.
+     */
+    private final class SubList extends AbstractList<Card> {
+        private final List<Card> view;
+
+        private SubList (List<Card> view) {
+            this.view = view;
+        }
+
+        @Override
+        public Card get (int index) {
+            return view.get(index);
+        }
+
+        @Override
+        public int size () {
+            return view.size();
+        }
+
+        @Override
+        public Card set (int index, Card card) {
+            profile = null;
+            return view.set(index, card);
+        }
+
+        @Override
+        public void add (int index, Card card) {
+            view.add(index, card);
+        }
+
+        @Override
+        public Card remove (int index) {
+            return view.remove(index);
+        }
+
+        @Override
+        public List<Card> subList (int fromIndex, int toIndex) {
+            return new SubList(view.subList(fromIndex, toIndex));
+        }
+    }
+}
@@ -2,10 +2,6 @@ package hands;
 
 import cards.Card;
 import cards.Color;
-import cards.Value;
-
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * This class allow to create a hand from a string content. Using it require to follow some
@@ -14,18 +10,56 @@ import java.util.List;
  *     - A card is created by a value and a color. those two elements are not splinted<br>
  *     - A value can be "2", "3", "4", "5", "6", "7", "8", "9", "10", "V", "D", "R" or "A"<br>
  *     - A color can be "Ca", "Co", "Pi", "Tr". Attention the system is case-sensitive<br>
+ *
+ * A builder refuse a card it already built. The built cards are kept in a 52-bit mask of the deck until
+ * {@link #reset()} is called, so a single builder can parse any number of deals in constant memory.
+ * A builder is not thread-safe, the static {@link #parse(String, DeckContext)} can be used by several
+ * threads with a context owned by each caller.
  */
 
 public class HandBuilder {
     // -- Static fields --
     private final static String[] names = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "V", "D", "R", "A"};
+    private final static Color[] colors = Color.values();
+    private final static int HAND_SIZE = 5;
+
+    // The parse codes of tryParse, see HandErrors
+    /** Result of {@link #tryParse(String, DeckContext, byte[], int)} when the hand is valid */
+    public final static int PARSE_OK = HandErrors.PARSE_OK;
+    /** A card has less than 3 characters */
+    public final static int ERROR_NOT_CARD = HandErrors.ERROR_NOT_CARD;
+    /** The value of a card is unknown */
+    public final static int ERROR_VALUE = HandErrors.ERROR_VALUE;
+    /** The color of a card is unknown */
+    public final static int ERROR_COLOR = HandErrors.ERROR_COLOR;
+    /** A card is already dealt */
+    public final static int ERROR_DUPLICATE = HandErrors.ERROR_DUPLICATE;
+    /** The hand doesn't have 5 cards */
+    public final static int ERROR_HAND_SIZE = HandErrors.ERROR_HAND_SIZE;
 
     // -- fields --
-    private final List<Card> knownCards;
+    // The cards already built by this builder
+    private final DeckContext deck;
 
     // -- Constructor --
     public HandBuilder () {
-        knownCards = new ArrayList<>();
+        deck = new DeckContext();
+    }
+
+    // -- Deck methods --
+    /**
+     * Start a new deal : all the cards of the deck can be built again. It should be called between two
+     * independent deals, tables or files.
+     */
+    public void reset () {
+        deck.reset();
+    }
+
+    /**
+     * @return the mask of the packed codes of the cards built since the last {@link #reset()}
+     */
+    public long getKnownCards () {
+        return deck.getMask();
     }
 
     // -- Build methods --
@@ -38,68 +72,220 @@ public class HandBuilder {
      *         allow in a hand
      */
     public Hand buildHandFromString(String hand) throws Exception {
-        Hand res = new Hand();
+        return parse(hand, deck).toHand();
+    }
+
+    /**
+     * Parse a hand without any state in the builder : the cards already dealt are given by the caller, so
+     * several threads can parse at the same time, each with its own contexts. The cards of the hand are added
+     * to the context only if the whole hand is valid.
+     *
+     * @param hand A String that contains 5 cards with some rules as describe in the {@link HandBuilder class
+     * documentation}
+     * @param deck the cards already dealt, the cards of the hand are added to it
+     * @return the packed codes and the mask of the cards
+     * @throws IllegalArgumentException - One of the cards is bad written
+     * @throws RuntimeException - One of the cards is already dealt
+     * @throws Exception - The hand doesn't have 5 cards
+     * @see #tryParse(String, int, int, DeckContext, byte[], int) to parse without exception
+     */
+    public static ParsedHand parse(String hand, DeckContext deck) throws Exception {
+        byte[] codes = new byte[HAND_SIZE];
+        long dealt = deck.getMask();
 
-        for (String card : hand.split(" ")) {
-            if (card.isBlank())
+        int result = tryParse(hand, deck, codes, 0);
+        switch (result) {
+            case PARSE_OK:
+                return new ParsedHand(codes, deck.getMask() & ~dealt);
+            case ERROR_DUPLICATE:
+                throw new RuntimeException(getErrorMessage(result));
+            case ERROR_HAND_SIZE:
+                throw new Exception(getErrorMessage(result));
+            default:
+                throw new IllegalArgumentException(getErrorMessage(result));
+        }
+    }
+
+    /**
+     * Parse a hand without raising any exception, the error is given by the result.
+     * @see #tryParse(String, int, int, DeckContext, byte[], int)
+     */
+    public static int tryParse(String hand, DeckContext deck, byte[] codes, int offset) {
+        return tryParse(hand, 0, hand.length(), deck, codes, offset);
+    }
+
+    /**
+     * Parse a hand written in a part of a string without raising any exception, so a bad hand cost as much as
+     * a good one. The cards of the hand are added to the context only if the whole hand is valid. The cards are
+     * separated by spaces or tabs, and the characters can be read from any sequence (a string, or the bytes of a
+     * file as in {@link HandFileParser}) without being copied.
+     *
+     * @param line the characters that contain the hand
+     * @param from the index of the first character of the hand
+     * @param to the index after the last character of the hand
+     * @param deck the cards already dealt, the cards of the hand are added to it
+     * @param codes the array where the 5 packed card codes are written
+     * @param offset the index of the first code in the array
+     * @return {@link #PARSE_OK}, or one of the positive parse codes of {@link HandErrors}. The message of an
+     *         error is given by {@link #getErrorMessage(int)}
+     */
+    public static int tryParse(CharSequence line, int from, int to, DeckContext deck, byte[] codes, int offset) {
+        int count = 0;
+        long mask = 0;
+        long dealt = deck.getMask();
+
+        int i = from;
+        while (i < to) {
+            if (isSpace(line.charAt(i))) {
+                i++;
                 continue;
-            try {
-                res.add(buildCardFromString(card));
-            } catch (IllegalArgumentException e) {
-                knownCards.removeAll(res);
-                throw e;
             }
-        }
 
-        if (res.size() != 5) {
-            knownCards.removeAll(res);
-            throw new Exception("One hand is composed of 5 cards");
+            int end = i;
+            while (end < to && !isSpace(line.charAt(end)))
+                end++;
+
+            int code = decodeCard(line, i, end);
+            if (code < 0)
+                return -code;
+
+            if (((dealt | mask) & (1L << code)) != 0) {
+                // This mean that a card with same value and color has been already created
+                return ERROR_DUPLICATE;
+            }
+            if (count == HAND_SIZE)
+                return ERROR_HAND_SIZE;
+
+            mask |= 1L << code;
+            codes[offset + count++] = (byte) code;
+            i = end;
         }
 
-        return res;
+        if (count != HAND_SIZE)
+            return ERROR_HAND_SIZE;
+
+        deck.add(mask);
+        return PARSE_OK;
     }
 
     /**
-     * Create a card from a string
-     * @param card a string that describe the value and the color as {value}{color} without space between them
-     * @return the created card
-     * @throws IllegalArgumentException - One of the arguments is bad written
+     * @param error an error given by {@link #tryParse(String, int, int, DeckContext, byte[], int)}
+     * @return the message of the error, null for {@link #PARSE_OK}
+     * @see HandErrors#getMessage(int)
      */
-    private Card buildCardFromString(String card) throws IllegalArgumentException {
-        final int COLOR_LENGTH = 2;
+    public static String getErrorMessage(int error) {
+        return HandErrors.getMessage(error);
+    }
 
-        if (card.length() < 3) throw new IllegalArgumentException("The characters are not Cards");
+    /**
+     * Write a card as it's read by this class
+     * @param code the packed code of a card
+     * @return the card as {value}{color}, for example "10Pi"
+     */
+    public static String toToken(int code) {
+        return names[Card.valueOrdinal(code)] + colors[Card.colorOrdinal(code)].name();
+    }
 
-        int value = getCardValueFromString(card.substring(0, card.length() - COLOR_LENGTH));
-        if (value == -1) {
-            throw new IllegalArgumentException("The card value must be in {2, 3, 4, 5, 6, 7, 8, 9, V, D, R, A}");
-        }
+    /**
+     * Read a card written as by {@link #toToken(int)}, without raising any exception
+     * @param card the characters that contain the card
+     * @param from the index of the first character of the card
+     * @param to the index after the last character of the card
+     * @return the packed code of the card, or the opposite of one of the parse codes of {@link HandErrors}
+     */
+    public static int tryParseCard(CharSequence card, int from, int to) {
+        return decodeCard(card, from, to);
+    }
+
+    /**
+     * Decode a card from a part of a string, without creating a substring.
+     * @param card a string that describe the value and the color as {value}{color} without space between them
+     * @param from the index of the first character of the card
+     * @param to the index after the last character of the card
+     * @return the packed code of the card, or the opposite of an ERROR constant
+     */
+    private static int decodeCard(CharSequence card, int from, int to) {
+        if (to - from < 3)
+            return -ERROR_NOT_CARD;
+        return decodeCard(to - from, card.charAt(from), card.charAt(from + 1), card.charAt(to - 2),
+                card.charAt(to - 1));
+    }
 
-        Color color = Color.valueOf(card.substring(card.length() - COLOR_LENGTH));
+    /**
+     * Decode a card from its characters, so a card can be read from any source (a string, or the bytes of a
+     * file as in {@link HandFileParser}) with the same grammar and the same errors.
+     * @param length the number of characters of the card, at least 3
+     * @param first the first character of the card
+     * @param second the second character of the card, only read for a value of 2 characters
+     * @param color1 the last but one character of the card
+     * @param color2 the last character of the card
+     * @return the packed code of the card, or the opposite of an ERROR constant
+     */
+    static int decodeCard(int length, char first, char second, char color1, char color2) {
+        final int COLOR_LENGTH = 2;
 
-        Card res = new Card(Value.values()[value], color);
+        int value = getCardValue(first, second, length - COLOR_LENGTH);
+        if (value == -1)
+            return -ERROR_VALUE;
 
-        if (knownCards.contains(res)) {
-            // This mean that a card with same value and color has been already created
-            throw new RuntimeException("Card already existing");
-        }
+        int color = getCardColor(color1, color2);
+        if (color == -1)
+            return -ERROR_COLOR;
 
-        knownCards.add(res);
+        return Card.encode(value, color);
+    }
 
-        return res;
+    /**
+     * @return true for the characters that separate two cards : a space, a tab or the end of a line
+     */
+    static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
     }
 
     /**
-     * Return the value of the card as a int using a string value
-     * @param value a string that must respect the grammar
-     * @return the value that is between 2 and 14, otherwise it return -1 as error
+     * Return the value of the card as a int using the beginning of a card string
+     * @param c the first character of the value
+     * @param next the character after it, only read for a value of 2 characters
+     * @param length the number of characters of the value
+     * @return the value ordinal that is between 0 and 12, otherwise it return -1 as error
      */
-    private int getCardValueFromString(String value) {
-        for (int i = 0; i < names.length; i++) {
-            if (value.equals(names[i])) {
-                return i; // + 2 because the value start with 2 and this As have value 14
-            }
+    private static int getCardValue(char c, char next, int length) {
+        if (length == 2)
+            return (c == '1' && next == '0') ? 8 : -1;
+        if (length != 1)
+            return -1;
+
+        if (c >= '2' && c <= '9')
+            return c - '2';
+        switch (c) {
+            case 'V':
+                return 9;
+            case 'D':
+                return 10;
+            case 'R':
+                return 11;
+            case 'A':
+                return 12;
+            default:
+                return -1;
         }
+    }
+
+    /**
+     * Return the color of the card as a int using the end of a card string
+     * @param c1 the first character of the color
+     * @param c2 the second character of the color
+     * @return the color ordinal, otherwise it return -1 as error
+     */
+    private static int getCardColor(char c1, char c2) {
+        if (c1 == 'C' && c2 == 'a')
+            return Color.Ca.ordinal();
+        else if (c1 == 'C' && c2 == 'o')
+            return Color.Co.ordinal();
+        else if (c1 == 'P' && c2 == 'i')
+            return Color.Pi.ordinal();
+        else if (c1 == 'T' && c2 == 'r')
+            return Color.Tr.ordinal();
         return -1;
     }
 }
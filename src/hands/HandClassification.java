@@ -0,0 +1,109 @@
+package hands;
+
+import cards.Value;
+import interaction.ResultType;
+
+import java.util.Arrays;
+
+/**
+ * The category of a single hand and its deciding values, without comparing it to another hand. The hand is
+ * read once by the {@link HandEvaluator} (a table lookup for 5 cards with colors, a single count of the values
+ * otherwise) instead of calling every detector of {@link Hand} one after another.<br>
+ *
+ * A classification is immutable. Two classifications are compared as the hands they come from.
+ */
+
+public final class HandClassification implements Comparable<HandClassification> {
+    // -- Static fields --
+    private static final int NB_VALUES = 5;
+
+    // -- Fields --
+    private final int strength;
+
+    // -- Constructors --
+    private HandClassification (int strength) {
+        this.strength = strength;
+    }
+
+    // -- Factories --
+    /**
+     * @param hand a hand
+     * @return the classification of the hand
+     */
+    public static HandClassification of (Hand hand) {
+        return new HandClassification(HandEvaluator.evaluate(hand));
+    }
+
+    /**
+     * @param mask a mask of up to 7 packed card codes
+     * @return the classification of the best 5-card hand of the mask
+     */
+    public static HandClassification ofMask (long mask) {
+        return new HandClassification(HandEvaluator.evaluateMask(mask));
+    }
+
+    /**
+     * @param strength a strength given by the {@link HandEvaluator}
+     * @return the classification of the strength
+     */
+    public static HandClassification ofStrength (int strength) {
+        return new HandClassification(strength);
+    }
+
+    // -- Getters --
+    public int getStrength () {
+        return strength;
+    }
+
+    /**
+     * @return the category of the hand
+     */
+    public ResultType getResultType () {
+        return HandEvaluator.getResultType(strength);
+    }
+
+    /**
+     * @param index the index of a deciding value, 0 for the most important
+     * @return the deciding value, null if there is no value at this index
+     */
+    public Value getValue (int index) {
+        return HandEvaluator.getValue(strength, index);
+    }
+
+    /**
+     * @return the deciding values from the most important to the least (for example the value of the pair,
+     *         then the other values from the highest to the lowest)
+     */
+    public Value[] getValues () {
+        int nbValues = 0;
+        while (nbValues < NB_VALUES && getValue(nbValues) != null)
+            nbValues++;
+
+        Value[] values = new Value[nbValues];
+        for (int i = 0; i < nbValues; i++) {
+            values[i] = getValue(i);
+        }
+        return values;
+    }
+
+    // -- Override methods --
+    @Override
+    public int compareTo (HandClassification o) {
+        return Integer.compare(strength, o.strength);
+    }
+
+    @Override
+    public boolean equals (Object obj) {
+        return (obj instanceof HandClassification) && ((HandClassification) obj).strength == strength;
+    }
+
+    @Override
+    public int hashCode () {
+        return strength;
+    }
+
+    @Override
+    public String toString () {
+        return getResultType() + " " + Arrays.toString(getValues());
+    }
+}
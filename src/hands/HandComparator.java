@@ -1,13 +1,18 @@
 package hands;
 
 import cards.Card;
+import cards.Color;
 import cards.Value;
 import interaction.*;
 
-import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
 
 /**
- * This class is used to compare several hands. She will determine which is the better and why.
+ * This class is used to compare several hands. She will determine which is the better and why.<br>
+ *
+ * The hands are only read : each hand is evaluated once by the {@link HandEvaluator} and the explanation
+ * is derived from the two strengths, so a hand can be compared to many others without being copied.
  *
  * @author Gabriel Cogne
  * @author Amine CHOUHABI
@@ -15,331 +20,378 @@ import java.util.AbstractMap;
  */
 
 public class HandComparator {
+    // -- Static fields --
+    /** Number of packed card codes of a pair of hands in a batch : the first hand, then the second one */
+    public static final int PAIR_LENGTH = 10;
+
+    // Number of deciding values in a strength
+    private static final int NB_VALUES = 5;
+
+    private static final int MAIN1 = Victorieu.main1.ordinal();
+    private static final int MAIN2 = Victorieu.main2.ordinal();
+    private static final int EGALITE = Victorieu.egalite.ordinal();
+    private static final int WINNER_BITS = 2;
+
+    // The comparison codes of tryCompare, see HandErrors
+    /** Result of {@link #tryCompare(Hand, Hand)} when a hand is null */
+    public static final int ERROR_NULL_HAND = HandErrors.ERROR_NULL_HAND;
+    /** Result of {@link #tryCompare(Hand, Hand)} when the two hands have quads of the same value */
+    public static final int ERROR_SAME_QUADS = HandErrors.ERROR_SAME_QUADS;
+    /** Result of {@link #tryCompare(Hand, Hand)} when the two hands have fulls of the same value */
+    public static final int ERROR_SAME_FULLS = HandErrors.ERROR_SAME_FULLS;
+    /** Result of {@link #tryCompare(Hand, Hand)} when the two hands have trips of the same value */
+    public static final int ERROR_SAME_TRIPS = HandErrors.ERROR_SAME_TRIPS;
+
+    private static final Victorieu[] WINNERS = Victorieu.values();
+    private static final ResultType[] RESULT_TYPES = ResultType.values();
 
     /**
      * This will determine who win following the known poker rules
      * @param h1 the first hand in
      * @param h2 the second hand in
      * @return a {@link Victory victory object} that describe who win and why
+     * @throws IllegalStateException if the two hands have a trip, a quad or a full of the same value, which is
+     *                               impossible in a 52-card deck
+     * @see #tryCompare(Hand, Hand) to compare without exception
      */
-    public Victory compare (Hand h1, Hand h2) throws Exception {
+    public Victory compare (Hand h1, Hand h2) throws IllegalStateException {
         if ((h1 == null) || (h2 == null))
             throw new NullPointerException("All hands must be initialized !!");
 
-        Card valueHand1;
-        Card valueHand2 = null;
-        Value[] value_Hand1;
-        Value[] value_Hand2 = null;
-
-        // Poker rules
-        if (((valueHand1 = h1.isStraightFlush()) != null) || ((valueHand2 = h2.isStraightFlush()) != null))
-            // We have at least one straightFlush
-            return refereeOnStraightFlush(h2, valueHand1, valueHand2);
+        int strength1 = HandEvaluator.evaluate(h1);
+        int strength2 = HandEvaluator.evaluate(h2);
+        int index = decidingIndex(strength1, strength2);
 
-        else if (((valueHand1 = h1.isSquare()) != null) || ((valueHand2 = h2.isSquare()) != null))
-            // We have at least one quad
-            return refereeOnQuad(h2, valueHand1, valueHand2);
+        int error = impossibleDraw(strength1, index);
+        if (error < 0)
+            throw new IllegalStateException(getErrorMessage(error));
 
-        else if (((value_Hand1 = h1.getFull()) != null) || ((value_Hand2 = h2.getFull()) != null))
-            // We have Full
-            return refereeOnFull(h2, value_Hand1, value_Hand2);
+        if (strength1 > strength2)
+            return explain(Victorieu.main1, flushColorOf(h1, strength1), strength1, index);
+        else if (strength1 < strength2)
+            return explain(Victorieu.main2, flushColorOf(h2, strength2), strength2, index);
+        else
+            return explain(Victorieu.egalite, flushColorOf(h2, strength2), strength2, index);
+    }
 
+    /**
+     * This will determine who win between two hands given as packed card codes (see
+     * {@link cards.Card#encode(int, int)}), without creating any object : the victory is one of the shared
+     * instances, so its code can be rendered with {@link VictoryMessages}
+     * @param cards the packed card codes of the pair, the first hand then the second one
+     * @param offset the index of the first code of the pair
+     * @return a {@link Victory victory object} that describe who win and why
+     * @throws IllegalStateException if the two hands have a trip, a quad or a full of the same value, which is
+     *                               impossible when the 10 cards are different
+     */
+    public Victory compare (byte[] cards, int offset) throws IllegalStateException {
+        int strength1 = HandEvaluator.evaluate(cards, offset);
+        int strength2 = HandEvaluator.evaluate(cards, offset + NB_VALUES);
+        int index = decidingIndex(strength1, strength2);
 
-        else if (((valueHand1 = h1.isFlush()) != null) || ((valueHand2 = h2.isFlush()) != null))
-            // We have at least one flush
-            return refereeOnFlush(h1, h2, valueHand1, valueHand2);
+        int error = impossibleDraw(strength1, index);
+        if (error < 0)
+            throw new IllegalStateException(getErrorMessage(error));
 
-        else if (((valueHand1 = h1.isStraight()) != null) || ((valueHand2 = h2.isStraight()) != null))
-            // We have at least one straight
-            return refereeOnStraight(h2, valueHand1, valueHand2);
+        if (strength1 > strength2)
+            return explain(Victorieu.main1, flushColorOf(cards, offset, strength1), strength1, index);
+        else
+            return explain((strength1 < strength2) ? Victorieu.main2 : Victorieu.egalite,
+                    flushColorOf(cards, offset + NB_VALUES, strength2), strength2, index);
+    }
 
-        else if (((valueHand1 = h1.getBrelan()) != null) || ((valueHand2 = h2.getBrelan()) != null))
-            // We have at least one trip
-            return refereeOnTrip(h2, valueHand1, valueHand2);
+    /**
+     * This will determine who win without building an explanation and without raising any exception
+     * @param h1 the first hand in
+     * @param h2 the second hand in
+     * @return a result code that can be read with {@link #winnerOf(int)} and {@link #resultTypeOf(int)}, or a
+     *         negative comparison code of {@link HandErrors} whose message is given by {@link #getErrorMessage(int)}
+     */
+    public int tryCompare (Hand h1, Hand h2) {
+        if ((h1 == null) || (h2 == null))
+            return ERROR_NULL_HAND;
 
-        else if ((h1.getDoublePairCards() != null) || (h2.getDoublePairCards() != null))
-            // We have at least one two pair
-            return refereeOnTwoPairs(h1, h2);
+        int strength1 = HandEvaluator.evaluate(h1);
+        int strength2 = HandEvaluator.evaluate(h2);
 
-        else if (((valueHand1 = h1.getPairCards()) != null) || ((valueHand2 = h2.getPairCards()) != null))
-            // We have at least one pair in a hand
-            return refereeOnPair(h1, h2, valueHand1, valueHand2);
+        int error = impossibleDraw(strength1, decidingIndex(strength1, strength2));
+        if (error < 0)
+            return error;
 
-        else
-            // We have nothing and we use the default referee rule
-            return compareOnHighestCard(h1, h2);
+        return resultOf(strength1, strength2);
     }
 
     /**
-     * This will return the winner hand comparing them by the highest value
-     * @param hand1 the first hand in
-     * @param hand2 the second hand in
-     * @return a {@link Victory victory object} that describe who win and why
+     * @param error a negative result of {@link #tryCompare(Hand, Hand)}
+     * @return the message of the error, null if the result is not an error
+     * @see HandErrors#getMessage(int)
      */
-    private Victory compareOnHighestCard (Hand hand1, Hand hand2) {
-        if (hand1.isEmpty() || hand2.isEmpty())
-            return new Victory(Victorieu.egalite, ResultType.higherCard, null);
-
-        Card highest1 = hand1.getHighestCard();
-        Card highest2 = hand2.getHighestCard();
-
-        if (highest1.compareTo(highest2) > 0) {
-            return new Victory(Victorieu.main1, ResultType.higherCard, highest1.getValue());
-        } else if (highest1.compareTo(highest2) < 0) {
-            return new Victory(Victorieu.main2, ResultType.higherCard, highest2.getValue());
-        }
-        hand1.remove(highest1);
-        hand2.remove(highest2);
-        if (hand1.isEmpty() || hand2.isEmpty())
-            return new Victory(Victorieu.egalite, ResultType.higherCard, highest1.getValue());
-        else
-            return compareOnHighestCard(hand1, hand2);
+    public static String getErrorMessage (int error) {
+        return HandErrors.getMessage(error);
     }
 
     /**
-     * This will return the winner hand comparing them by pair value
-     * @param hand1 the first hand in
-     * @param hand2 the second hand in
-     * @return a {@link Victory victory object} that describe who win and why
+     * This will rank several hands in one pass : each hand is evaluated once, then the hands are sorted by
+     * strength. Hands with the same strength share the same place, so a split pot is a group of several hands.
+     * @param hands the hands of the players, in the order of the players
+     * @return the {@link Showdown ranking} of the hands, with an explanation for the winner(s)
      */
-    private Victory refereeOnPair(Hand hand1, Hand hand2, Card valueHand1, Card valueHand2) {
-        if (valueHand2 == null)
-            valueHand2 = hand2.getPairCards();
+    public Showdown showdown (List<Hand> hands) {
+        int nbHands = hands.size();
+        int[] strengths = new int[nbHands];
+        int[] ranking = new int[nbHands];
+
+        for (int i = 0; i < nbHands; i++) {
+            if (hands.get(i) == null)
+                throw new NullPointerException("All hands must be initialized !!");
+            strengths[i] = HandEvaluator.evaluate(hands.get(i));
+
+            // Insertion sort from the strongest to the weakest, the players order is kept on draw
+            int j = i;
+            while (j > 0 && strengths[ranking[j - 1]] < strengths[i]) {
+                ranking[j] = ranking[j - 1];
+                j--;
+            }
+            ranking[j] = i;
+        }
 
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
+        if (nbHands == 0)
+            return new Showdown(strengths, ranking, null);
 
-            if (winner.equals(Victorieu.egalite)) {
-                hand1.removeCardsOfValue(valueHand1);
-                hand2.removeCardsOfValue(valueHand1);
-                return compareOnHighestCard(hand1, hand2);
-            }
-            return new Victory(winner, ResultType.pair,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue()));
-        } else if (valueHand1 != null)
-            return new Victory(Victorieu.main1, ResultType.pair, valueHand1.getValue());
-        else
-            return new Victory(Victorieu.main2, ResultType.pair, valueHand2.getValue());
+        // The explanation is given against the best hand that doesn't win
+        int best = strengths[ranking[0]];
+        int nbWinners = 1;
+        while (nbWinners < nbHands && strengths[ranking[nbWinners]] == best)
+            nbWinners++;
+
+        int index = (nbWinners < nbHands) ? decidingIndex(best, strengths[ranking[nbWinners]]) : 0;
+
+        int[] winners = Arrays.copyOf(ranking, nbWinners);
+        Victory explanation = explain(Victorieu.main1, flushColorOf(hands.get(ranking[0]), best), best, index);
+        return new Showdown(strengths, ranking, new ShowdownVictory(winners, explanation));
     }
 
     /**
-     * This is a method to referee two hand on trip rule
-     * @param hand2 the second hand in input
-     * @param valueHand1 the value of the trip in hand1, if exist (to buy some time)
-     * @param valueHand2 the value of the trip in hand2, if exist (to buy some time)
-     * @return a explication on win result
-     * @throws Exception two trip can't have the same value in 52-card deck
+     * @see #showdown(List)
      */
-    private Victory refereeOnTrip (Hand hand2, Card valueHand1, Card valueHand2) throws Exception {
-        if (valueHand2 == null)
-            valueHand2 = hand2.getBrelan();
+    public Showdown showdown (Hand... hands) {
+        return showdown(Arrays.asList(hands));
+    }
 
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
+    /**
+     * This will determine who win using the strength of each hand given by the {@link HandEvaluator}. Unlike
+     * {@link #compare(Hand, Hand)}, no explanation is built.
+     * @param h1 the first hand in
+     * @param h2 the second hand in
+     * @return the winner, {@link Victorieu#egalite} if the hands have the same strength
+     */
+    public Victorieu getWinner (Hand h1, Hand h2) {
+        int strength1 = HandEvaluator.evaluate(h1);
+        int strength2 = HandEvaluator.evaluate(h2);
 
-            if (winner.equals(Victorieu.egalite)) {
-                throw new Exception("two same value trips in a four colors games is impossible");
-            }
-            return new Victory(winner, ResultType.brelan,
-                    winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue());
-        } else if (valueHand1 != null)
-            return new Victory(Victorieu.main1, ResultType.brelan, valueHand1.getValue());
+        if (strength1 > strength2)
+            return Victorieu.main1;
+        else if (strength1 < strength2)
+            return Victorieu.main2;
         else
-            return new Victory(Victorieu.main2, ResultType.brelan, valueHand2.getValue());
+            return Victorieu.egalite;
     }
 
     /**
-     * This is a method to referee two hand on quad rule
-     * @param hand2 the second hand in input
-     * @param valueHand1 the value of the quad in hand1, if exist (to buy some time)
-     * @param valueHand2 the value of the quad in hand2, if exist (to buy some time)
-     * @return a explication on win result
-     * @throws Exception two quad can't have the same value in 52-card deck
+     * Compare several pairs of hands in one call. The hands are given as packed card codes (see
+     * {@link cards.Card#encode(int, int)}), {@link #PAIR_LENGTH} codes per pair. For each pair, a result code
+     * is written : it can be read with {@link #winnerOf(int)} and {@link #resultTypeOf(int)}.<br>
+     *
+     * No object is created and no exception is raised for a draw : the result type is the category of the
+     * best hand, even when the hands are decided by their remaining cards.
+     *
+     * @param cards the packed card codes of the pairs
+     * @param offset the index of the first code of the first pair
+     * @param count the number of pairs to compare
+     * @param results the array where the result codes are written
+     * @param resultOffset the index of the result of the first pair
      */
-    private Victory refereeOnQuad (Hand hand2, Card valueHand1, Card valueHand2) throws Exception {
-        if (valueHand2 == null)
-            valueHand2 = hand2.isSquare();
-
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
+    public void compareAll (byte[] cards, int offset, int count, int[] results, int resultOffset) {
+        for (int i = 0; i < count; i++, offset += PAIR_LENGTH) {
+            int strength1 = HandEvaluator.evaluate(cards, offset);
+            int strength2 = HandEvaluator.evaluate(cards, offset + NB_VALUES);
 
-            if (winner.equals(Victorieu.egalite)) {
-                throw new Exception("two same value quads in a four colors games is impossible");
-            }
-            return new Victory(winner, ResultType.carre,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue()));
-        } else if (valueHand1 != null)
-            return new Victory(Victorieu.main1, ResultType.carre, valueHand1.getValue());
-        else
-            return new Victory(Victorieu.main2, ResultType.carre, valueHand2.getValue());
+            results[resultOffset + i] = resultOf(strength1, strength2);
+        }
     }
 
     /**
-     * This is a method to referee two hand on two pair rule
-     * @param hand1 the first hand in input
-     * @param hand2 the second hand in input
-     * @return a explication on win result
+     * Compare all the pairs of hands of an array
+     * @param cards the packed card codes of the pairs, {@link #PAIR_LENGTH} codes per pair
+     * @param results the array where the result codes are written, one per pair
+     * @see #compareAll(byte[], int, int, int[], int)
      */
-    private Victory refereeOnTwoPairs (Hand hand1, Hand hand2) {
-        AbstractMap.SimpleEntry<Card, Card> valueHand1 = hand1.getDoublePairCards();
-        AbstractMap.SimpleEntry<Card, Card> valueHand2 = hand2.getDoublePairCards();
-
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1.getKey(), valueHand2.getKey());
-
-            if (winner.equals(Victorieu.egalite)) {
-                winner = compareCards(valueHand1.getValue(), valueHand2.getValue());
-                if (winner.equals(Victorieu.egalite)) {
-                    hand1.removeCardsOfValue(valueHand1.getKey());
-                    hand1.removeCardsOfValue(valueHand1.getValue());
-                    hand2.removeCardsOfValue(valueHand2.getKey());
-                    hand2.removeCardsOfValue(valueHand2.getValue());
-                    return compareOnHighestCard(hand1, hand2);
-                }
-            }
-            return new TwoCardVictory(winner, ResultType.doublePair,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getKey().getValue() : valueHand2.getKey().getValue()),
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue().getValue() : valueHand2.getValue().getValue()));
-        } else if (valueHand1 != null)
-            return new TwoCardVictory(Victorieu.main1, ResultType.doublePair,
-                    valueHand1.getKey().getValue(), valueHand1.getValue().getValue());
-        else
-            return new TwoCardVictory(Victorieu.main2, ResultType.doublePair,
-                    valueHand2.getKey().getValue(), valueHand2.getKey().getValue());
+    public void compareAll (byte[] cards, int[] results) {
+        compareAll(cards, 0, cards.length / PAIR_LENGTH, results, 0);
     }
 
     /**
-     * This is a method to referee two hand on straight rule.<br>
-     * Here the first hand is only describe by it's greatest value
-     *
-     * @param hand2 the second hand in input
-     * @param valueHand1 the value of the straight in hand1, if exist (to buy some time)
-     * @param valueHand2 the value of the straight in hand2, if exist (to buy some time)
-     * @return a explication on win result
+     * @param result a result code given by {@link #compareAll(byte[], int, int, int[], int)} or
+     *               {@link #tryCompare(Hand, Hand)}
+     * @return the winner of the comparison
      */
-    private Victory refereeOnStraight (Hand hand2, Card valueHand1, Card valueHand2) {
-        if (valueHand2 == null)
-            valueHand2 = hand2.isStraight();
-
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
-            return new Victory(winner, ResultType.suite,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue()));
-        } else if (valueHand1 != null)
-            return new Victory(Victorieu.main1, ResultType.suite, valueHand1.getValue());
-        else
-            return new Victory(Victorieu.main2, ResultType.suite, valueHand2.getValue());
+    public static Victorieu winnerOf (int result) {
+        return WINNERS[result & ((1 << WINNER_BITS) - 1)];
     }
 
     /**
-     * This is a method to referee two hand on flush rule
-     *
-     * @param hand1 the first hand in input
-     * @param hand2 the second hand in input
-     * @param valueHand1 the value of the flush in hand1, if exist (to buy some time)
-     * @param valueHand2 the value of the flush in hand2, if exist (to buy some time)
-     * @return a explication on win result
+     * @param result a result code given by {@link #compareAll(byte[], int, int, int[], int)} or
+     *               {@link #tryCompare(Hand, Hand)}
+     * @return the category of the best hand of the comparison
      */
-    private Victory refereeOnFlush (Hand hand1, Hand hand2, Card valueHand1, Card valueHand2) {
-        if (valueHand2 == null)
-            valueHand2 = hand2.isFlush();
+    public static ResultType resultTypeOf (int result) {
+        return RESULT_TYPES[result >>> WINNER_BITS];
+    }
 
-        if (hand1.isEmpty() && hand2.isEmpty())
-            return new Victory(Victorieu.egalite, ResultType.couleur, null);
-        else if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
+    /**
+     * @return the result code of a comparison, the result type is the category of the best hand
+     */
+    private static int resultOf (int strength1, int strength2) {
+        int winner = (strength1 > strength2) ? MAIN1 : (strength1 < strength2) ? MAIN2 : EGALITE;
+        ResultType type = HandEvaluator.getResultType(Math.max(strength1, strength2));
 
-            if (winner.equals(Victorieu.egalite)) {
-                hand1.removeCardsOfValue(valueHand1);
-                hand2.removeCardsOfValue(valueHand2);
+        return (type.ordinal() << WINNER_BITS) | winner;
+    }
 
-                return refereeOnFlush(hand1, hand2, hand1.getHighestCard(), hand2.getHighestCard());
+    /**
+     * Check that two hands don't have a trip, a quad or a full of the same value
+     * @param strength the strength of one of the hands
+     * @param index the deciding index of the two hands
+     * @return 0, or the ERROR constant of the impossible draw
+     */
+    private static int impossibleDraw (int strength, int index) {
+        if (index > 0) {
+            switch (HandEvaluator.getCategory(strength)) {
+                case HandEvaluator.QUADS:
+                    return ERROR_SAME_QUADS;
+                case HandEvaluator.FULL:
+                    return ERROR_SAME_FULLS;
+                case HandEvaluator.TRIPS:
+                    return ERROR_SAME_TRIPS;
             }
-
-            return new ColorVictory(winner, ResultType.couleur,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue()),
-                    (winner.equals(Victorieu.main1) ? valueHand1.getColor() : valueHand2.getColor()));
-        } else if (valueHand1 != null)
-            return new ColorVictory(Victorieu.main1, ResultType.couleur,
-                    valueHand1.getValue(), valueHand1.getColor());
-        else
-            return new ColorVictory(Victorieu.main2, ResultType.couleur, valueHand2.getValue(),
-                    valueHand2.getColor());
+        }
+        return 0;
     }
 
     /**
-     * This is a method to referee two hand on straight flush rule.<br>
-     * Here the first hand is only describe by it's greatest value
-     *
-     * @param hand2 the second hand in input
-     * @param valueHand1 the value of the straight flush in hand1, if exist (to buy some time)
-     * @param valueHand2 the value of the straight flush in hand2, if exist (to buy some time)
-     * @return a explication on win result
+     * Give the index of the first deciding value that is not the same in two strengths
+     * @param strength1 the strength of the first hand
+     * @param strength2 the strength of the second hand
+     * @return the index, 0 when the categories are not the same and {@link #NB_VALUES} on draw
      */
-    private Victory refereeOnStraightFlush (Hand hand2, Card valueHand1, Card valueHand2) {
-        if (valueHand2 == null)
-            valueHand2 = hand2.isStraightFlush();
-
-        if ((valueHand1 != null) && (valueHand2 != null)) {
-            Victorieu winner = compareCards(valueHand1, valueHand2);
-            return new ColorVictory(winner, ResultType.quinteFlush,
-                    (winner.equals(Victorieu.main1) ? valueHand1.getValue() : valueHand2.getValue()),
-                    (winner.equals(Victorieu.main1) ? valueHand1.getColor() : valueHand2.getColor()));
-        } else if (valueHand1 != null)
-            return new ColorVictory(Victorieu.main1, ResultType.quinteFlush, valueHand1.getValue(),
-                    valueHand1.getColor());
-        else
-            return new ColorVictory(Victorieu.main2, ResultType.quinteFlush, valueHand2.getValue(),
-                    valueHand2.getColor());
+    private static int decidingIndex (int strength1, int strength2) {
+        int index = 0;
+        if (HandEvaluator.getCategory(strength1) == HandEvaluator.getCategory(strength2)) {
+            while (index < NB_VALUES
+                    && HandEvaluator.getValue(strength1, index) == HandEvaluator.getValue(strength2, index))
+                index++;
+        }
+        return index;
     }
 
     /**
-     * Compare two hand value and return who win if only the card value is took
+     * Build the explanation of a comparison using the strength of the winner. The explanation use the deciding
+     * value found by {@link #decidingIndex(int, int)}.
      *
-     * @param valueHand1 a card of the first hand
-     * @param valueHand2 a card of the second hand
-     * @return a winner, return draw if necessary
+     * @param winner the winner
+     * @param color the color of the flush of the winner (or of one of the hands on draw), null if the hand is
+     *              not a flush
+     * @param strength the strength of this hand
+     * @param index the index of the deciding value
+     * @return a {@link Victory victory object} that describe who win and why
      */
-    private Victorieu compareCards (Card valueHand1, Card valueHand2) {
-        if (valueHand1.compareTo(valueHand2) > 0)
-            return Victorieu.main1;
-        else if (valueHand1.compareTo(valueHand2) < 0)
-            return Victorieu.main2;
-        else {
-            return Victorieu.egalite;
+    private Victory explain (Victorieu winner, Color color, int strength, int index) {
+        Value value = HandEvaluator.getValue(strength, 0);
+
+        switch (HandEvaluator.getCategory(strength)) {
+            case HandEvaluator.STRAIGHT_FLUSH:
+                return ColorVictory.of(winner, ResultType.quinteFlush, value, color);
+
+            case HandEvaluator.QUADS:
+                return Victory.of(winner, ResultType.carre, value);
+
+            case HandEvaluator.FULL:
+                return TwoCardVictory.of(winner, ResultType.full, value, HandEvaluator.getValue(strength, 1));
+
+            case HandEvaluator.FLUSH:
+                if (winner.equals(Victorieu.egalite))
+                    return Victory.of(Victorieu.egalite, ResultType.couleur, null);
+                return ColorVictory.of(winner, ResultType.couleur, HandEvaluator.getValue(strength, index), color);
+
+            case HandEvaluator.STRAIGHT:
+                return Victory.of(winner, ResultType.suite, value);
+
+            case HandEvaluator.TRIPS:
+                return Victory.of(winner, ResultType.brelan, value);
+
+            case HandEvaluator.TWO_PAIR:
+                // The high pair then the low pair, whichever hand wins
+                if (index < 2)
+                    return TwoCardVictory.of(winner, ResultType.doublePair, value,
+                            HandEvaluator.getValue(strength, 1));
+                // Same pairs, the remaining card decide
+                return victoryOnHighestCard(winner, strength, index);
+
+            case HandEvaluator.PAIR:
+                if (index < 1)
+                    return Victory.of(winner, ResultType.pair, value);
+                // Same pair, the remaining cards decide
+                return victoryOnHighestCard(winner, strength, index);
+
+            default:
+                return victoryOnHighestCard(winner, strength, index);
         }
     }
 
-    private Victory refereeOnFull(Hand hand2, Value[] valueHand1, Value[] valueHand2) throws Exception {
-        if (valueHand2 == null){
-            valueHand2 = hand2.getFull();
+    /**
+     * Build the explanation of a comparison decided by the highest card that is not the same in the two hands
+     * @param winner the winner
+     * @param strength the strength of the winner (or of one of the hands on draw)
+     * @param index the index of the deciding value, {@link #NB_VALUES} on draw
+     * @return a {@link Victory victory object} that describe who win and why
+     */
+    private Victory victoryOnHighestCard (Victorieu winner, int strength, int index) {
+        if (index < NB_VALUES)
+            return Victory.of(winner, ResultType.higherCard, HandEvaluator.getValue(strength, index));
+
+        // On draw, the last compared value is given
+        Value last = null;
+        for (int i = 0; i < NB_VALUES && HandEvaluator.getValue(strength, i) != null; i++) {
+            last = HandEvaluator.getValue(strength, i);
         }
-        if (valueHand1 != null && valueHand2 != null){
-            if (valueHand1[0] == valueHand2[0]){
-                //on a egalite
-                throw new Exception("error");
-            }
-            if (valueHand1[0].compareTo(valueHand2[0]) > 0) {
-                //la main 1 gagne
-                return new TwoCardVictory(Victorieu.main1,ResultType.full,
-                        valueHand1[0],valueHand1[1]);
-            }
+        return Victory.of(winner, ResultType.higherCard, last);
+    }
+
+    /**
+     * The color is only read for a flush, so a hand without card (which is never a flush) is never read
+     * @param hand a hand
+     * @param strength the strength of the hand
+     * @return the color of the flush, null if the hand is not a flush
+     */
+    private static Color flushColorOf (Hand hand, int strength) {
+        return isFlush(strength) ? hand.get(0).getColor() : null;
+    }
 
-            //la main 2 gagne
-            return new TwoCardVictory(Victorieu.main2,ResultType.full,
-                    valueHand2[0],valueHand2[1]);
+    /**
+     * @param cards some packed card codes
+     * @param first the index of the first code of the hand
+     * @param strength the strength of the hand
+     * @return the color of the flush, null if the hand is not a flush
+     */
+    private static Color flushColorOf (byte[] cards, int first, int strength) {
+        return isFlush(strength) ? Card.colorOfCode(cards[first]) : null;
+    }
 
-        }
-        else if (valueHand1 != null) {
-            // la main 1 gagne
-            return new TwoCardVictory(Victorieu.main1,ResultType.full,
-                    valueHand1[0],valueHand1[1]);
-        }
-        else if (valueHand2 != null){
-            //la main 2 gagne
-            return new TwoCardVictory(Victorieu.main2,ResultType.full,
-                    valueHand2[0],valueHand2[1]);
-        }
-        return null;
+    /**
+     * @return true if the strength is a flush or a straight flush, the only victories that give a color
+     */
+    private static boolean isFlush (int strength) {
+        int category = HandEvaluator.getCategory(strength);
+        return category == HandEvaluator.FLUSH || category == HandEvaluator.STRAIGHT_FLUSH;
     }
 }
@@ -0,0 +1,80 @@
+package hands;
+
+/**
+ * The error codes of the methods of this package that report an error without raising an exception, and their
+ * messages. There are two families of codes, that never overlap :<br>
+ *     - the parse codes, positive, returned by {@link HandBuilder#tryParse(CharSequence, int, int, DeckContext,
+ *       byte[], int)} and reported by {@link HandFileParser} ({@link #PARSE_OK} when the hand is valid)<br>
+ *     - the comparison codes, negative, returned by {@link HandComparator#tryCompare(Hand, Hand)} instead of
+ *       a result code (a result code is never negative)<br>
+ * The constants are also available in the classes that return them, and {@link #getMessage(int)} gives the
+ * message of any code.
+ */
+
+public final class HandErrors {
+    // -- Parse codes --
+    /** The hand is valid */
+    public static final int PARSE_OK = 0;
+    /** A card has less than 3 characters */
+    public static final int ERROR_NOT_CARD = 1;
+    /** The value of a card is unknown */
+    public static final int ERROR_VALUE = 2;
+    /** The color of a card is unknown */
+    public static final int ERROR_COLOR = 3;
+    /** A card is already dealt */
+    public static final int ERROR_DUPLICATE = 4;
+    /** The hand doesn't have 5 cards */
+    public static final int ERROR_HAND_SIZE = 5;
+    /** The line of a file has more hands than allowed */
+    public static final int ERROR_TOO_MANY_HANDS = 6;
+    /** The line of a file is longer than a mapped chunk of the file */
+    public static final int ERROR_LINE_TOO_LONG = 7;
+
+    // -- Comparison codes --
+    /** A hand is null */
+    public static final int ERROR_NULL_HAND = -1;
+    /** The two hands have quads of the same value */
+    public static final int ERROR_SAME_QUADS = -2;
+    /** The two hands have fulls of the same value */
+    public static final int ERROR_SAME_FULLS = -3;
+    /** The two hands have trips of the same value */
+    public static final int ERROR_SAME_TRIPS = -4;
+
+    // -- Constructors --
+    private HandErrors () {
+    }
+
+    // -- Methods --
+    /**
+     * @param error a parse code or a comparison code
+     * @return the message of the error, null if the code is not an error
+     */
+    public static String getMessage (int error) {
+        switch (error) {
+            case ERROR_NOT_CARD:
+                return "The characters are not Cards";
+            case ERROR_VALUE:
+                return "The card value must be in {2, 3, 4, 5, 6, 7, 8, 9, V, D, R, A}";
+            case ERROR_COLOR:
+                return "The card color must be in {Ca, Co, Pi, Tr}";
+            case ERROR_DUPLICATE:
+                return "Card already existing";
+            case ERROR_HAND_SIZE:
+                return "One hand is composed of 5 cards";
+            case ERROR_TOO_MANY_HANDS:
+                return "The line has too many hands";
+            case ERROR_LINE_TOO_LONG:
+                return "The line is too long";
+            case ERROR_NULL_HAND:
+                return "All hands must be initialized !!";
+            case ERROR_SAME_QUADS:
+                return "two same value quads in a four colors games is impossible";
+            case ERROR_SAME_FULLS:
+                return "two same value fulls in a four colors games is impossible";
+            case ERROR_SAME_TRIPS:
+                return "two same value trips in a four colors games is impossible";
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package hands;
+
+import cards.Card;
+import cards.Value;
+import interaction.ResultType;
+
+/**
+ * This class give to a 5-card hand a single integer strength : the greater the strength, the better the hand.
+ * Two hands are then compared with an int comparison.<br>
+ *
+ * A strength is built as {category}{value 1}{value 2}{value 3}{value 4}{value 5} where the category use the
+ * bits 20 and above and each value use 4 bits (the value ordinal + 1, 0 if there is no value). The values are
+ * the deciding values, from the most important to the least (for example the value of the pair, then the
+ * three other values from the highest to the lowest).<br>
+ *
+ * The strengths are precomputed in tables :<br>
+ *     - a flush table, indexed by the 13-bit mask of the values, for hands with only one color<br>
+ *     - a unique value table, indexed the same way, for hands with 5 different values<br>
+ *     - a hashed table for the other hands, indexed by the product of one prime number per value<br>
+ *
+ * Hands of more than 5 cards (two hole cards and five board cards for example) are evaluated on their mask
+ * of cards (see {@link BitHand}) : the strength is the one of the best 5-card hand, found directly with mask
+ * operations instead of trying every 5-card subset.
+ */
+
+public final class HandEvaluator {
+    // -- Categories --
+    public static final int HIGH_CARD = 0;
+    public static final int PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int TRIPS = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL = 6;
+    public static final int QUADS = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+
+    // -- Static fields --
+    private static final ResultType[] TYPES = {
+            ResultType.higherCard, ResultType.pair, ResultType.doublePair, ResultType.brelan, ResultType.suite,
+            ResultType.couleur, ResultType.full, ResultType.carre, ResultType.quinteFlush
+    };
+    private static final Value[] VALUES = Value.values();
+
+    private static final int CATEGORY_SHIFT = 20;
+    private static final int VALUE_BITS = 4;
+    private static final int MAX_VALUES = 5;
+    private static final int NB_COLORS = 4;
+
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+
+    private static final int[] FLUSHES = new int[BitHand.ALL_VALUES + 1];
+    private static final int[] UNIQUES = new int[BitHand.ALL_VALUES + 1];
+
+    // Open addressing table of the hands with at least two cards of the same value (4888 patterns)
+    private static final int HASH_BITS = 14;
+    private static final int[] HASH_KEYS = new int[1 << HASH_BITS];
+    private static final int[] HASH_STRENGTHS = new int[1 << HASH_BITS];
+
+    static {
+        int[] counts = new int[VALUES.length];
+
+        for (int a = 0; a < VALUES.length; a++)
+            for (int b = a; b < VALUES.length; b++)
+                for (int c = b; c < VALUES.length; c++)
+                    for (int d = c; d < VALUES.length; d++)
+                        for (int e = d; e < VALUES.length; e++) {
+                            if (a == e)
+                                continue; // Five cards of the same value don't exist
+
+                            counts[a]++; counts[b]++; counts[c]++; counts[d]++; counts[e]++;
+
+                            int values = (1 << a) | (1 << b) | (1 << c) | (1 << d) | (1 << e);
+                            if (Integer.bitCount(values) == MAX_VALUES) {
+                                UNIQUES[values] = strengthOf(counts, false);
+                                FLUSHES[values] = strengthOf(counts, true);
+                            } else {
+                                int key = PRIMES[a] * PRIMES[b] * PRIMES[c] * PRIMES[d] * PRIMES[e];
+                                int slot = slotOf(key);
+                                HASH_KEYS[slot] = key;
+                                HASH_STRENGTHS[slot] = strengthOf(counts, false);
+                            }
+
+                            counts[a]--; counts[b]--; counts[c]--; counts[d]--; counts[e]--;
+                        }
+    }
+
+    // -- Constructor --
+    private HandEvaluator () {
+        // Only static methods
+    }
+
+    // -- Evaluation methods --
+    /**
+     * Give the strength of a hand of five packed card codes
+     * @return the strength of the hand
+     */
+    public static int evaluate (int c1, int c2, int c3, int c4, int c5) {
+        int values = (1 << (c1 >> 2)) | (1 << (c2 >> 2)) | (1 << (c3 >> 2)) | (1 << (c4 >> 2)) | (1 << (c5 >> 2));
+
+        if ((((c1 ^ c2) | (c1 ^ c3) | (c1 ^ c4) | (c1 ^ c5)) & 3) == 0)
+            return FLUSHES[values];
+
+        if (Integer.bitCount(values) == MAX_VALUES)
+            return UNIQUES[values];
+
+        int key = PRIMES[c1 >> 2] * PRIMES[c2 >> 2] * PRIMES[c3 >> 2] * PRIMES[c4 >> 2] * PRIMES[c5 >> 2];
+        return HASH_STRENGTHS[slotOf(key)];
+    }
+
+    /**
+     * Give the strength of a hand stored as five consecutive packed card codes
+     * @param codes an array of packed card codes
+     * @param offset the index of the first card of the hand
+     * @return the strength of the hand
+     */
+    public static int evaluate (byte[] codes, int offset) {
+        return evaluate(codes[offset], codes[offset + 1], codes[offset + 2], codes[offset + 3], codes[offset + 4]);
+    }
+
+    /**
+     * Give the strength of a hand. A hand of 5 cards with colors use the tables, other hands (less cards or
+     * cards without color) are evaluated on their values only.
+     * @param hand the hand to evaluate
+     * @return the strength of the hand
+     */
+    public static int evaluate (Hand hand) {
+        if (hand.size() == MAX_VALUES) {
+            int c1 = hand.get(0).getCode(), c2 = hand.get(1).getCode(), c3 = hand.get(2).getCode(),
+                    c4 = hand.get(3).getCode(), c5 = hand.get(4).getCode();
+
+            if ((c1 | c2 | c3 | c4 | c5) >= 0)
+                return evaluate(c1, c2, c3, c4, c5);
+        }
+
+        int[] counts = new int[VALUES.length];
+        for (Card c : hand) {
+            counts[c.getValue().ordinal()]++;
+        }
+        return strengthOf(counts, false);
+    }
+
+    /**
+     * Give the strength of the best 5-card hand that can be made with seven packed card codes
+     * @return the strength of the best hand
+     */
+    public static int evaluate (int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+        return evaluateMask((1L << c1) | (1L << c2) | (1L << c3) | (1L << c4) | (1L << c5) | (1L << c6)
+                | (1L << c7));
+    }
+
+    /**
+     * Give the strength of the best 5-card hand that can be made with a mask of cards. The mask can hold
+     * up to 7 cards : with 7 cards, a flush can't be a full or a quad, so the first color with 5 cards
+     * decide the hand unless it's a straight flush.
+     * @param mask a mask of packed card codes, as in {@link BitHand}
+     * @return the strength of the best hand
+     */
+    public static int evaluateMask (long mask) {
+        for (int color = 0; color < NB_COLORS; color++) {
+            int colorValues = BitHand.colorValues(mask, color);
+            if (Integer.bitCount(colorValues) >= MAX_VALUES) {
+                int straight = BitHand.straight(colorValues);
+                if (straight >= 0)
+                    return (STRAIGHT_FLUSH << CATEGORY_SHIFT) | valueAt(straight, 0);
+                return FLUSHES[highestValues(colorValues, MAX_VALUES)];
+            }
+        }
+
+        int values = BitHand.values(mask);
+        int quads = BitHand.quads(mask);
+        if (quads != 0) {
+            int quad = BitHand.highestValue(quads);
+            return (QUADS << CATEGORY_SHIFT) | valueAt(quad, 0)
+                    | valueAt(BitHand.highestValue(values & ~(1 << quad)), 1);
+        }
+
+        int trips = BitHand.trips(mask);
+        int pairs = BitHand.pairs(mask);
+        int trip = BitHand.highestValue(trips);
+        if (trips != 0) {
+            // A second trip can be the pair of the full
+            int fullPairs = (trips & ~(1 << trip)) | pairs;
+            if (fullPairs != 0)
+                return (FULL << CATEGORY_SHIFT) | valueAt(trip, 0) | valueAt(BitHand.highestValue(fullPairs), 1);
+        }
+
+        int straight = BitHand.straight(values);
+        if (straight >= 0)
+            return (STRAIGHT << CATEGORY_SHIFT) | valueAt(straight, 0);
+
+        if (trips != 0)
+            return (TRIPS << CATEGORY_SHIFT) | valueAt(trip, 0) | kickers(values & ~(1 << trip), 2, 1);
+
+        if (pairs != 0) {
+            int pair = BitHand.highestValue(pairs);
+            int others = pairs & ~(1 << pair);
+            if (others != 0) {
+                int pair2 = BitHand.highestValue(others);
+                return (TWO_PAIR << CATEGORY_SHIFT) | valueAt(pair, 0) | valueAt(pair2, 1)
+                        | kickers(values & ~(1 << pair) & ~(1 << pair2), 1, 2);
+            }
+            return (PAIR << CATEGORY_SHIFT) | valueAt(pair, 0) | kickers(values & ~(1 << pair), 3, 1);
+        }
+
+        return (HIGH_CARD << CATEGORY_SHIFT) | kickers(values, MAX_VALUES, 0);
+    }
+
+    // -- Strength decoding --
+    /**
+     * @param strength a strength given by this class
+     * @return the category of the strength, between {@link #HIGH_CARD} and {@link #STRAIGHT_FLUSH}
+     */
+    public static int getCategory (int strength) {
+        return strength >>> CATEGORY_SHIFT;
+    }
+
+    /**
+     * @param strength a strength given by this class
+     * @return the result type that match the category of the strength
+     */
+    public static ResultType getResultType (int strength) {
+        return TYPES[strength >>> CATEGORY_SHIFT];
+    }
+
+    /**
+     * @param strength a strength given by this class
+     * @param index the index of the deciding value, between 0 (the most important) and 4
+     * @return the deciding value, null if there is no value at this index
+     */
+    public static Value getValue (int strength, int index) {
+        int value = (strength >>> ((MAX_VALUES - 1 - index) * VALUE_BITS)) & 0xF;
+        return (value == 0) ? null : VALUES[value - 1];
+    }
+
+    // -- Private methods --
+    /**
+     * Compute the strength of a hand using the number of cards of each value
+     * @param counts the number of cards of each value
+     * @param flush true if the hand is made of 5 cards of the same color
+     */
+    private static int strengthOf (int[] counts, boolean flush) {
+        int nbCards = 0;
+        int values = 0;
+        for (int v = 0; v < counts.length; v++) {
+            nbCards += counts[v];
+            if (counts[v] > 0)
+                values |= 1 << v;
+        }
+
+        if (nbCards == MAX_VALUES && Integer.bitCount(values) == MAX_VALUES) {
+            int straight = BitHand.straight(values);
+            if (straight >= 0)
+                return ((flush ? STRAIGHT_FLUSH : STRAIGHT) << CATEGORY_SHIFT)
+                        | ((straight + 1) << ((MAX_VALUES - 1) * VALUE_BITS));
+        }
+
+        // The deciding values are sorted by number of cards, then by value
+        int strength = 0;
+        int index = 0;
+        int firstCount = 0, secondCount = 0;
+        for (int count = 4; count > 0; count--) {
+            for (int v = counts.length - 1; v >= 0; v--) {
+                if (counts[v] == count) {
+                    if (index == 0)
+                        firstCount = count;
+                    else if (index == 1)
+                        secondCount = count;
+
+                    strength |= (v + 1) << ((MAX_VALUES - 1 - index) * VALUE_BITS);
+                    index++;
+                }
+            }
+        }
+
+        int category;
+        if (firstCount == 4)
+            category = QUADS;
+        else if (firstCount == 3)
+            category = (secondCount == 2) ? FULL : TRIPS;
+        else if (firstCount == 2)
+            category = (secondCount == 2) ? TWO_PAIR : PAIR;
+        else
+            category = flush ? FLUSH : HIGH_CARD;
+
+        return (category << CATEGORY_SHIFT) | strength;
+    }
+
+    /**
+     * Put a value ordinal at an index of the deciding values of a strength
+     */
+    private static int valueAt (int value, int index) {
+        return (value + 1) << ((MAX_VALUES - 1 - index) * VALUE_BITS);
+    }
+
+    /**
+     * Put the highest values of a mask at the deciding values of a strength, from an index
+     * @param values a 13-bit mask of values
+     * @param nb the maximum number of values to put
+     * @param index the index of the first value
+     */
+    private static int kickers (int values, int nb, int index) {
+        int strength = 0;
+        for (int i = 0; i < nb && values != 0; i++) {
+            int value = BitHand.highestValue(values);
+            strength |= valueAt(value, index + i);
+            values &= ~(1 << value);
+        }
+        return strength;
+    }
+
+    /**
+     * Keep the highest bits of a 13-bit mask of values
+     */
+    private static int highestValues (int values, int nb) {
+        while (Integer.bitCount(values) > nb) {
+            values &= values - 1;
+        }
+        return values;
+    }
+
+    /**
+     * Return the slot of a key in the hashed table, using linear probing
+     */
+    private static int slotOf (int key) {
+        int slot = (key * 0x9E3779B1) >>> (Integer.SIZE - HASH_BITS);
+        while (HASH_KEYS[slot] != 0 && HASH_KEYS[slot] != key) {
+            slot = (slot + 1) & ((1 << HASH_BITS) - 1);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,220 @@
+package hands;
+
+import cards.Card;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class parse a file of hands by mapping it in memory. The bytes of the file are read in place and each
+ * card is decoded by the grammar of {@link HandBuilder}, straight into packed card codes (see
+ * {@link Card#encode(int, int)}) without creating any string. A line gives the same error codes as
+ * {@link HandBuilder#tryParse(CharSequence, int, int, DeckContext, byte[], int)} on each of its hands.<br>
+ *
+ * The file follow the grammar of {@link HandBuilder}, with one deal by line and the hands of a deal separated
+ * by a '|' (for example "7Tr 6Pi 5Pi 5Tr 5Ca | DCa 2Ca 3Ca 4Ca 5Tr"). A card can't be used twice in a line.
+ * A bad line is reported to the {@link Listener} with its offset in the file and an error code, and the
+ * parsing continue with the next line.
+ */
+
+public class HandFileParser {
+    // -- Static fields --
+    /** The line has more hands than allowed. The other errors are the parse codes of {@link HandErrors} */
+    public static final int ERROR_TOO_MANY_HANDS = HandErrors.ERROR_TOO_MANY_HANDS;
+    /** The line is longer than a mapped chunk of the file */
+    public static final int ERROR_LINE_TOO_LONG = HandErrors.ERROR_LINE_TOO_LONG;
+
+    private static final int HAND_SIZE = 5;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 28;
+    private static final int BLOCK_SIZE = 1 << 16;
+
+    // -- Fields --
+    private final int chunkSize;
+    private final byte[] cards;
+    // The bytes of the chunk being parsed, copied a block at a time. It grows for a longer line
+    private byte[] block = new byte[BLOCK_SIZE];
+
+    // -- Listener --
+    /**
+     * Receive the result of each line of a file
+     */
+    public interface Listener {
+        /**
+         * A line was parsed
+         * @param offset the offset of the line in the file
+         * @param cards the packed codes of the cards, 5 by hand. The array is reused for the next line
+         * @param nbHands the number of hands in the line
+         */
+        void onLine (long offset, byte[] cards, int nbHands);
+
+        /**
+         * A line is malformed
+         * @param offset the offset of the line in the file
+         * @param error one of the positive parse codes of {@link HandErrors}
+         */
+        void onError (long offset, int error);
+    }
+
+    // -- Constructors --
+    /**
+     * Create a parser that accept up to 10 hands by line
+     */
+    public HandFileParser () {
+        this(10, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param maxHands the maximum number of hands in a line
+     * @param chunkSize the number of bytes of the file mapped at once, and so the maximum length of a line
+     */
+    public HandFileParser (int maxHands, int chunkSize) {
+        this.chunkSize = chunkSize;
+        this.cards = new byte[maxHands * HAND_SIZE];
+    }
+
+    // -- Parse methods --
+    /**
+     * Parse every line of a file. The file is mapped chunk by chunk, a chunk always start at the beginning
+     * of a line.
+     * @param file the file to parse
+     * @param listener the listener of the lines
+     * @return the number of lines that are well written
+     * @throws IOException if the file can't be read
+     */
+    public long parse (Path file, Listener listener) throws IOException {
+        long nbLines = 0;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+
+            while (position < size) {
+                int length = (int) Math.min(chunkSize, size - position);
+                boolean lastChunk = position + length == size;
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                // The chunk is copied in the block a part at a time, each part starting with the current line
+                int lineStart = 0;
+                int blockStart = 0;
+                int blockLength;
+                while (true) {
+                    blockLength = Math.min(block.length, length - blockStart);
+                    chunk.position(blockStart);
+                    chunk.get(block, 0, blockLength);
+
+                    for (int i = lineStart - blockStart; i < blockLength; i++) {
+                        if (block[i] == '\n') {
+                            nbLines += parseLine(block, lineStart - blockStart, i, position + lineStart, listener);
+                            lineStart = blockStart + i + 1;
+                        }
+                    }
+
+                    if (blockStart + blockLength == length)
+                        break;
+                    if (lineStart == blockStart)
+                        block = new byte[Math.min(block.length * 2, length)];
+                    blockStart = lineStart;
+                }
+
+                if (lastChunk) {
+                    nbLines += parseLine(block, lineStart - blockStart, blockLength, position + lineStart, listener);
+                    position = size;
+                } else if (lineStart == 0) {
+                    // The line doesn't fit in a chunk, the rest of the line will also be reported
+                    listener.onError(position, ERROR_LINE_TOO_LONG);
+                    position += length;
+                } else {
+                    position += lineStart;
+                }
+            }
+        }
+
+        return nbLines;
+    }
+
+    // -- Private methods --
+    /**
+     * Parse the hands of a line, separated by '|', in one pass over its bytes. The checks are done in the
+     * order of {@link HandBuilder#tryParse(CharSequence, int, int, DeckContext, byte[], int)}, so a bad line
+     * gives the same error.
+     * @return 1 if the line is well written, 0 if it's blank or malformed
+     */
+    private int parseLine (byte[] line, int from, int to, long offset, Listener listener) {
+        // Each byte is read once, b is the byte at i when i < to
+        int i = from;
+        byte b = 0;
+        while (i < to && isSpace(b = line[i]))
+            i++;
+        if (i == to)
+            return 0; // Blank line
+        if (cards.length < HAND_SIZE)
+            return error(listener, offset, ERROR_TOO_MANY_HANDS);
+
+        long mask = 0;
+        int nbHands = 0;
+        int count = 0;
+        while (true) {
+            if (i == to || b == '|') {
+                // The end of a hand
+                if (count != HAND_SIZE)
+                    return error(listener, offset, HandBuilder.ERROR_HAND_SIZE);
+                nbHands++;
+                if (i == to)
+                    break;
+
+                if ((nbHands + 1) * HAND_SIZE > cards.length)
+                    return error(listener, offset, ERROR_TOO_MANY_HANDS);
+                count = 0;
+                i++;
+            } else {
+                // The first two and the last two characters of the card are kept while it's read
+                int start = i;
+                char first = toChar(b), second = 0, beforeLast = 0, last = first;
+                while (++i < to && !isSpace(b = line[i]) && b != '|') {
+                    beforeLast = last;
+                    last = toChar(b);
+                    if (i == start + 1)
+                        second = last;
+                }
+
+                int code = (i - start < 3) ? -HandBuilder.ERROR_NOT_CARD
+                        : HandBuilder.decodeCard(i - start, first, second, beforeLast, last);
+                if (code < 0)
+                    return error(listener, offset, -code);
+
+                if ((mask & (1L << code)) != 0)
+                    return error(listener, offset, HandBuilder.ERROR_DUPLICATE);
+                if (count == HAND_SIZE)
+                    return error(listener, offset, HandBuilder.ERROR_HAND_SIZE);
+
+                mask |= 1L << code;
+                cards[nbHands * HAND_SIZE + count++] = (byte) code;
+            }
+
+            while (i < to && isSpace(b = line[i]))
+                i++;
+        }
+
+        listener.onLine(offset, cards, nbHands);
+        return 1;
+    }
+
+    private static boolean isSpace (byte b) {
+        return HandBuilder.isSpace(toChar(b));
+    }
+
+    /**
+     * @return the byte read as an ASCII character
+     */
+    private static char toChar (byte b) {
+        return (char) (b & 0xFF);
+    }
+
+    private static int error (Listener listener, long offset, int error) {
+        listener.onError(offset, error);
+        return 0;
+    }
+}
@@ -0,0 +1,91 @@
+package hands;
+
+/**
+ * The combinatorial number system of the 5-card hands : each set of 5 different packed card codes
+ * c1 &lt; c2 &lt; c3 &lt; c4 &lt; c5 has the index C(c1, 1) + C(c2, 2) + C(c3, 3) + C(c4, 4) + C(c5, 5),
+ * between 0 and {@link #NB_HANDS} - 1. The hands are so numbered in the colexicographic order, without hole.
+ */
+
+public final class HandIndex {
+    // -- Static fields --
+    /** Number of cards in a hand */
+    public static final int HAND_SIZE = 5;
+    /** Number of 5-card hands in a 52-card deck */
+    public static final int NB_HANDS = 2598960;
+
+    private static final int DECK_SIZE = 52;
+
+    // BINOMIALS[k][n] = C(n, k)
+    private static final int[][] BINOMIALS = new int[HAND_SIZE + 1][DECK_SIZE + 1];
+    static {
+        for (int n = 0; n <= DECK_SIZE; n++) {
+            BINOMIALS[0][n] = 1;
+            for (int k = 1; k <= HAND_SIZE; k++) {
+                BINOMIALS[k][n] = (n == 0) ? 0 : BINOMIALS[k][n - 1] + BINOMIALS[k - 1][n - 1];
+            }
+        }
+    }
+
+    // -- Constructors --
+    private HandIndex () {
+    }
+
+    // -- Index methods --
+    /**
+     * @param mask a mask of exactly 5 packed card codes
+     * @return the index of the hand
+     */
+    public static int indexOf (long mask) {
+        int index = 0;
+        for (int k = 1; mask != 0; k++) {
+            index += BINOMIALS[k][Long.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return index;
+    }
+
+    /**
+     * @param c1 the lowest packed card code
+     * @param c2 the second packed card code
+     * @param c3 the third packed card code
+     * @param c4 the fourth packed card code
+     * @param c5 the highest packed card code
+     * @return the index of the hand
+     */
+    public static int indexOf (int c1, int c2, int c3, int c4, int c5) {
+        return BINOMIALS[1][c1] + BINOMIALS[2][c2] + BINOMIALS[3][c3] + BINOMIALS[4][c4] + BINOMIALS[5][c5];
+    }
+
+    /**
+     * The inverse of {@link #indexOf(long)}
+     * @param index the index of a hand, between 0 and {@link #NB_HANDS} - 1
+     * @return the mask of the 5 packed card codes of the hand
+     * @throws IllegalArgumentException if the index is out of bounds
+     */
+    public static long maskOf (int index) throws IllegalArgumentException {
+        if (index < 0 || index >= NB_HANDS)
+            throw new IllegalArgumentException("The index of a hand must be between 0 and " + (NB_HANDS - 1));
+
+        long mask = 0;
+        int code = DECK_SIZE;
+        for (int k = HAND_SIZE; k > 0; k--) {
+            // The highest code whose binomial is not greater than the remaining index
+            do {
+                code--;
+            } while (BINOMIALS[k][code] > index);
+
+            index -= BINOMIALS[k][code];
+            mask |= 1L << code;
+        }
+        return mask;
+    }
+
+    /**
+     * @param n a number of cards
+     * @param k a number of chosen cards, at most 5
+     * @return the number of ways to choose k cards among n
+     */
+    public static int binomial (int n, int k) {
+        return BINOMIALS[k][n];
+    }
+}
@@ -0,0 +1,133 @@
+package hands;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+
+import java.util.List;
+
+/**
+ * The counts of a hand, computed in one pass over its cards : the number of cards of each value, the masks of
+ * the values and of the colors, the first card of each value and the highest card. The detectors of
+ * {@link Hand} read the profile instead of going through the cards again.<br>
+ *
+ * A profile is immutable. {@link Hand#getProfile()} keeps it until the hand is modified.
+ */
+
+public final class HandProfile {
+    // -- Static fields --
+    private static final int NB_VALUES = Value.values().length;
+    /** Bit of {@link #getColors()} set when a card has no color */
+    public static final int NO_COLOR = 1 << Color.values().length;
+
+    // -- Fields --
+    private final int size;
+    private final int[] counts;
+    private final Card[] firstOfValue;
+    private final Card highest;
+    private final int values;
+    private final int colors;
+
+    // -- Constructors --
+    HandProfile (List<Card> cards) {
+        int[] counts = new int[NB_VALUES];
+        Card[] firstOfValue = new Card[NB_VALUES];
+        Card highest = null;
+        int values = 0;
+        int colors = 0;
+
+        for (Card c : cards) {
+            int value = c.getValue().ordinal();
+            counts[value]++;
+            values |= 1 << value;
+            if (firstOfValue[value] == null)
+                firstOfValue[value] = c;
+            if (highest == null || c.compareTo(highest) > 0)
+                highest = c;
+            colors |= (c.getColor() == null) ? NO_COLOR : 1 << c.getColor().ordinal();
+        }
+
+        this.size = cards.size();
+        this.counts = counts;
+        this.firstOfValue = firstOfValue;
+        this.highest = highest;
+        this.values = values;
+        this.colors = colors;
+    }
+
+    // -- Getters --
+    /**
+     * @return the number of cards
+     */
+    public int size () {
+        return size;
+    }
+
+    /**
+     * @param value a value ordinal
+     * @return the number of cards of the value
+     */
+    public int getCount (int value) {
+        return counts[value];
+    }
+
+    /**
+     * @param value a value ordinal
+     * @return the first card of the value in the hand, null if there is none
+     */
+    public Card getFirstOfValue (int value) {
+        return firstOfValue[value];
+    }
+
+    /**
+     * @return the first card with the highest value, null if the hand is empty
+     */
+    public Card getHighestCard () {
+        return highest;
+    }
+
+    /**
+     * @return the 13-bit mask of the values in the hand
+     */
+    public int getValues () {
+        return values;
+    }
+
+    /**
+     * @return the mask of the color ordinals in the hand, with {@link #NO_COLOR} for the cards without color
+     */
+    public int getColors () {
+        return colors;
+    }
+
+    /**
+     * @param n a number of cards
+     * @return the 13-bit mask of the values that have exactly n cards
+     */
+    public int getValuesWithCount (int n) {
+        int res = 0;
+        for (int v = 0; v < NB_VALUES; v++) {
+            if (counts[v] == n)
+                res |= 1 << v;
+        }
+        return res;
+    }
+
+    /**
+     * @return true if all the cards have the same color
+     */
+    public boolean isOneColor () {
+        return Integer.bitCount(colors) == 1 && colors != NO_COLOR;
+    }
+
+    /**
+     * @return true if the values of the cards are all different and follow each other, the ace being only
+     *         a high card
+     */
+    public boolean isSequence () {
+        if (size == 0 || Integer.bitCount(values) != size)
+            return false;
+        int run = values >>> Integer.numberOfTrailingZeros(values);
+        return (run & (run + 1)) == 0;
+    }
+}
@@ -0,0 +1,155 @@
+package hands;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The rank of every 5-card hand, indexed by the {@link HandIndex} of the hand. The rank is between 0 (the
+ * weakest hands) and the number of distinct strengths - 1 : a hand beats another one when its rank is higher,
+ * so a comparison is two reads. The strength of a rank, as given by the {@link HandEvaluator}, is also kept.<br>
+ *
+ * The table is computed once by {@link #generate()} and saved by {@link #write(Path)}. Then it's loaded by
+ * {@link #load(Path)}, which maps the file in memory instead of computing the table again : the loading is
+ * immediate, and the processes that load the same file share the same pages.<br>
+ *
+ * The file is written in little endian : a header of 4 ints (magic number, version, number of hands and
+ * number of strengths), the strengths as ints from the lowest rank, then the ranks of the hands as shorts.
+ */
+
+public final class HandRankTable {
+    // -- Static fields --
+    private static final int MAGIC = 0x484B5254; // "HKRT"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    // -- Fields --
+    private final int[] strengths;
+    private final ByteBuffer ranks;
+
+    // -- Constructors --
+    private HandRankTable (int[] strengths, ByteBuffer ranks) {
+        this.strengths = strengths;
+        this.ranks = ranks;
+    }
+
+    // -- Factories --
+    /**
+     * Compute the rank of every hand with the {@link HandEvaluator}
+     * @return the table, in memory
+     */
+    public static HandRankTable generate () {
+        int[] handStrengths = new int[HandIndex.NB_HANDS];
+
+        // The loops enumerate the hands in the order of their index
+        int index = 0;
+        for (int c5 = 4; c5 < 52; c5++)
+            for (int c4 = 3; c4 < c5; c4++)
+                for (int c3 = 2; c3 < c4; c3++)
+                    for (int c2 = 1; c2 < c3; c2++)
+                        for (int c1 = 0; c1 < c2; c1++)
+                            handStrengths[index++] = HandEvaluator.evaluate(c1, c2, c3, c4, c5);
+
+        int[] strengths = Arrays.stream(handStrengths).distinct().sorted().toArray();
+
+        ByteBuffer ranks = ByteBuffer.allocate(HandIndex.NB_HANDS * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < HandIndex.NB_HANDS; i++) {
+            ranks.putShort(i * Short.BYTES, (short) Arrays.binarySearch(strengths, handStrengths[i]));
+        }
+
+        return new HandRankTable(strengths, ranks);
+    }
+
+    /**
+     * Load a table written by {@link #write(Path)} by mapping the file in memory
+     * @param file the file of the table
+     * @return the table
+     * @throws IOException if the file can't be read or isn't a table of ranks
+     */
+    public static HandRankTable load (Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+                throw new IOException(file + " is not a table of ranks");
+            if (buffer.getInt(4) != VERSION || buffer.getInt(8) != HandIndex.NB_HANDS)
+                throw new IOException(file + " has an unknown version");
+
+            int nbStrengths = buffer.getInt(12);
+            int ranksOffset = HEADER_SIZE + nbStrengths * Integer.BYTES;
+            if (buffer.limit() != ranksOffset + HandIndex.NB_HANDS * Short.BYTES)
+                throw new IOException(file + " is truncated");
+
+            int[] strengths = new int[nbStrengths];
+            for (int i = 0; i < nbStrengths; i++) {
+                strengths[i] = buffer.getInt(HEADER_SIZE + i * Integer.BYTES);
+            }
+
+            // The mapping stays valid after the channel is closed
+            ByteBuffer ranks = buffer.position(ranksOffset).slice().order(ByteOrder.LITTLE_ENDIAN);
+            return new HandRankTable(strengths, ranks);
+        }
+    }
+
+    /**
+     * Save the table
+     * @param file the file of the table, it's replaced if it exists
+     * @throws IOException if the file can't be written
+     */
+    public void write (Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + strengths.length * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(HandIndex.NB_HANDS).putInt(strengths.length);
+        for (int strength : strengths) {
+            header.putInt(strength);
+        }
+        header.flip();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining())
+                channel.write(header);
+
+            ByteBuffer body = ranks.duplicate().clear();
+            while (body.hasRemaining())
+                channel.write(body);
+        }
+    }
+
+    // -- Getters --
+    /**
+     * @param index the {@link HandIndex index} of a hand
+     * @return the rank of the hand
+     */
+    public int getRank (int index) {
+        return ranks.getShort(index * Short.BYTES);
+    }
+
+    /**
+     * @param mask a mask of 5 packed card codes
+     * @return the rank of the hand
+     */
+    public int getRankOfMask (long mask) {
+        return getRank(HandIndex.indexOf(mask));
+    }
+
+    /**
+     * @param index the {@link HandIndex index} of a hand
+     * @return the strength of the hand, as given by {@link HandEvaluator}
+     */
+    public int getStrength (int index) {
+        return strengths[getRank(index)];
+    }
+
+    /**
+     * @return the number of distinct ranks
+     */
+    public int getNbRanks () {
+        return strengths.length;
+    }
+}
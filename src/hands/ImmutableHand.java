@@ -0,0 +1,160 @@
+package hands;
+
+import cards.Card;
+
+/**
+ * An immutable hand of exactly 5 different cards, stored in a single long : the packed card codes (see
+ * {@link Card#encode(int, int)}) sorted from the lowest to the highest, one code by byte. Unlike {@link Hand},
+ * there is no backing array and no way to modify the cards, and the comparisons of hands are comparisons of
+ * longs. A hand that doesn't escape a method can so be replaced by its long.<br>
+ *
+ * {@link #of(Hand)} and {@link #toHand()} convert from and to the {@link Hand} API.
+ */
+
+public final class ImmutableHand {
+    // -- Static fields --
+    private static final int HAND_SIZE = 5;
+    private static final int CODE_BITS = 8;
+    private static final int CODE_MASK = 0xFF;
+
+    // -- Fields --
+    private final long codes;
+
+    // -- Constructors --
+    private ImmutableHand (long codes) {
+        this.codes = codes;
+    }
+
+    // -- Factories --
+    /**
+     * @param codes 5 different packed card codes, in any order
+     * @return the hand of the cards
+     * @throws IllegalArgumentException if there is not 5 different codes between 0 and 51
+     */
+    public static ImmutableHand of (int... codes) throws IllegalArgumentException {
+        if (codes.length != HAND_SIZE)
+            throw new IllegalArgumentException("One hand is composed of 5 cards");
+
+        long mask = 0;
+        for (int code : codes) {
+            if (code < 0 || code >= Card.DECK_SIZE)
+                throw new IllegalArgumentException("A card code must be between 0 and " + (Card.DECK_SIZE - 1));
+            mask |= 1L << code;
+        }
+        return ofMask(mask);
+    }
+
+    /**
+     * @param mask a mask of 5 packed card codes
+     * @return the hand of the cards
+     * @throws IllegalArgumentException if the mask doesn't have 5 cards
+     */
+    public static ImmutableHand ofMask (long mask) throws IllegalArgumentException {
+        if (Long.bitCount(mask) != HAND_SIZE || (mask >>> Card.DECK_SIZE) != 0)
+            throw new IllegalArgumentException("One hand is composed of 5 different cards");
+
+        long codes = 0;
+        for (int i = 0; i < HAND_SIZE; i++) {
+            codes |= (long) Long.numberOfTrailingZeros(mask) << (i * CODE_BITS);
+            mask &= mask - 1;
+        }
+        return new ImmutableHand(codes);
+    }
+
+    /**
+     * @param index the {@link HandIndex index} of a hand
+     * @return the hand of this index
+     * @throws IllegalArgumentException if the index is out of bounds
+     */
+    public static ImmutableHand ofIndex (int index) throws IllegalArgumentException {
+        return ofMask(HandIndex.maskOf(index));
+    }
+
+    /**
+     * Convert a {@link Hand}
+     * @param hand a hand of 5 different cards that all have a color
+     * @return the immutable copy of the hand
+     * @throws IllegalArgumentException if the hand doesn't have 5 different cards with a color
+     */
+    public static ImmutableHand of (Hand hand) throws IllegalArgumentException {
+        return ofMask(BitHand.maskOf(hand));
+    }
+
+    // -- Getters --
+    /**
+     * @param index the index of a card, from the lowest code (0) to the highest (4)
+     * @return the packed code of the card
+     */
+    public int getCode (int index) {
+        return (int) (codes >>> (index * CODE_BITS)) & CODE_MASK;
+    }
+
+    /**
+     * @param index the index of a card, from the lowest code (0) to the highest (4)
+     * @return the shared instance of the card
+     */
+    public Card getCard (int index) {
+        return Card.of(getCode(index));
+    }
+
+    /**
+     * @return the mask of the packed codes of the cards
+     */
+    public long getMask () {
+        return 1L << getCode(0) | 1L << getCode(1) | 1L << getCode(2) | 1L << getCode(3) | 1L << getCode(4);
+    }
+
+    /**
+     * @return the {@link HandIndex index} of the hand
+     */
+    public int getIndex () {
+        return HandIndex.indexOf(getCode(0), getCode(1), getCode(2), getCode(3), getCode(4));
+    }
+
+    /**
+     * @return the strength of the hand, as given by the {@link HandEvaluator}
+     */
+    public int getStrength () {
+        return HandEvaluator.evaluate(getCode(0), getCode(1), getCode(2), getCode(3), getCode(4));
+    }
+
+    /**
+     * @return the category of the hand and its deciding values
+     */
+    public HandClassification classify () {
+        return HandClassification.ofStrength(getStrength());
+    }
+
+    // -- Conversions --
+    /**
+     * @return a new {@link Hand} of the shared instances of the cards, from the lowest to the highest
+     */
+    public Hand toHand () {
+        Hand hand = new Hand();
+        for (int i = 0; i < HAND_SIZE; i++) {
+            hand.add(getCard(i));
+        }
+        return hand;
+    }
+
+    // -- Override methods --
+    @Override
+    public boolean equals (Object obj) {
+        return (obj instanceof ImmutableHand) && ((ImmutableHand) obj).codes == codes;
+    }
+
+    @Override
+    public int hashCode () {
+        return Long.hashCode(codes);
+    }
+
+    @Override
+    public String toString () {
+        StringBuilder f = new StringBuilder();
+        for (int i = 0; i < HAND_SIZE; i++) {
+            f.append(getCard(i).toString());
+            f.append(" ");
+        }
+        return f.toString();
+    }
+}
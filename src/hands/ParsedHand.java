@@ -0,0 +1,69 @@
+package hands;
+
+import cards.Card;
+
+/**
+ * The immutable result of {@link HandBuilder#parse(String, DeckContext)} : the packed codes of the cards in
+ * the order of the string, and their mask.
+ */
+
+public final class ParsedHand {
+    // -- Fields --
+    private final byte[] codes;
+    private final long mask;
+
+    // -- Constructors --
+    ParsedHand (byte[] codes, long mask) {
+        this.codes = codes;
+        this.mask = mask;
+    }
+
+    // -- Getters --
+    /**
+     * @return the number of cards
+     */
+    public int size () {
+        return codes.length;
+    }
+
+    /**
+     * @param index the index of a card in the string
+     * @return the packed code of the card
+     */
+    public int getCode (int index) {
+        return codes[index];
+    }
+
+    /**
+     * @return a copy of the packed codes of the cards
+     */
+    public byte[] getCodes () {
+        return codes.clone();
+    }
+
+    /**
+     * @return the mask of the packed codes of the cards
+     */
+    public long getMask () {
+        return mask;
+    }
+
+    /**
+     * @return the {@link HandIndex index} of the hand
+     */
+    public int getIndex () {
+        return HandIndex.indexOf(mask);
+    }
+
+    // -- Conversions --
+    /**
+     * @return a {@link Hand} of the shared instances of the cards, in the order of the string
+     */
+    public Hand toHand () {
+        Hand hand = new Hand();
+        for (byte code : codes) {
+            hand.add(Card.of(code));
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,104 @@
+package hands;
+
+import interaction.ShowdownVictory;
+
+/**
+ * This class is the result of a showdown between several hands, as given by
+ * {@link HandComparator#showdown(java.util.List)}. The players are numbered by their index in the list of
+ * hands, starting at 0, and hands with the same strength share the same place. The {@link ShowdownVictory}
+ * uses the same indexes.
+ */
+
+public class Showdown {
+    // -- Fields --
+    private final int[] strengths;
+    private final int[] ranking;
+    private final int[] places;
+    private final int nbPlaces;
+    private final ShowdownVictory victory;
+
+    // -- Constructor --
+    /**
+     * @param strengths the strength of each hand, as given by the {@link HandEvaluator}
+     * @param ranking the indexes of the hands, from the strongest to the weakest
+     * @param victory the explanation for the winner(s), null if there is no hand
+     */
+    Showdown (int[] strengths, int[] ranking, ShowdownVictory victory) {
+        this.strengths = strengths;
+        this.ranking = ranking;
+        this.victory = victory;
+
+        places = new int[strengths.length];
+        int place = -1;
+        for (int i = 0; i < ranking.length; i++) {
+            if (i == 0 || strengths[ranking[i]] != strengths[ranking[i - 1]])
+                place++;
+            places[ranking[i]] = place;
+        }
+        nbPlaces = place + 1;
+    }
+
+    // -- Getters --
+    /**
+     * @param index the index of a hand
+     * @return the strength of the hand
+     */
+    public int getStrength (int index) {
+        return strengths[index];
+    }
+
+    /**
+     * @return the indexes of the hands, from the strongest to the weakest
+     */
+    public int[] getRanking () {
+        return ranking.clone();
+    }
+
+    /**
+     * @param index the index of a hand
+     * @return the place of the hand, 0 for the winner(s)
+     */
+    public int getPlace (int index) {
+        return places[index];
+    }
+
+    /**
+     * @return the groups of hands with the same strength, from the strongest to the weakest. The first group
+     *         is the winner(s), a group with several hands is a split pot.
+     */
+    public int[][] getGroups () {
+        int[][] groups = new int[nbPlaces][];
+        int start = 0;
+        for (int place = 0; place < nbPlaces; place++) {
+            int end = start;
+            while (end < ranking.length && places[ranking[end]] == place)
+                end++;
+
+            groups[place] = new int[end - start];
+            System.arraycopy(ranking, start, groups[place], 0, end - start);
+            start = end;
+        }
+        return groups;
+    }
+
+    /**
+     * @return the indexes of the winning hands
+     */
+    public int[] getWinners () {
+        return (nbPlaces == 0) ? new int[0] : getGroups()[0];
+    }
+
+    /**
+     * @return true if several hands share the first place
+     */
+    public boolean isSplit () {
+        return ranking.length > 1 && places[ranking[1]] == 0;
+    }
+
+    /**
+     * @return the explanation for the winner(s), null if there is no hand
+     */
+    public ShowdownVictory getVictory () {
+        return victory;
+    }
+}
@@ -6,17 +6,45 @@ import cards.Value;
 import java.util.ResourceBundle;
 
 public class ColorVictory extends Victory {
+    // -- Static fields --
+    static final Color[] COLORS = Color.values();
+
+    // Every outcome of a color victory
+    private static final ColorVictory[] victories =
+            new ColorVictory[WINNERS.length * RESULT_TYPES.length * (VALUES.length + 1) * COLORS.length];
+    static {
+        for (Victorieu winner : WINNERS)
+            for (ResultType type : RESULT_TYPES)
+                for (int value = -1; value < VALUES.length; value++)
+                    for (Color color : COLORS)
+                        victories[indexOf(winner, type, valueOf(value), color)] =
+                                new ColorVictory(winner, type, valueOf(value), color);
+    }
+
+    // -- Fields --
     private final Color winColor;
 
+    // -- Constructors --
     public ColorVictory(Victorieu victorieu, ResultType handWinType, Value valueWinner, Color winColor) {
-        super(victorieu, handWinType, valueWinner);
+        super(victorieu, handWinType, valueWinner, (winColor == null) ? 0 : winColor.ordinal() + 1, KIND_COLOR);
         this.winColor = winColor;
     }
 
+    /**
+     * @return the shared victory of this outcome, a new one if the color is null
+     */
+    public static ColorVictory of(Victorieu victorieu, ResultType handWinType, Value valueWinner, Color winColor) {
+        if (winColor == null)
+            return new ColorVictory(victorieu, handWinType, valueWinner, null);
+        return victories[indexOf(victorieu, handWinType, valueWinner, winColor)];
+    }
+
+    // -- Getters --
     public Color getWinColor() {
         return winColor;
     }
 
+    // -- Override methods --
     @Override
     public String toString() {
         if (getWinner().equals(Victorieu.egalite)) {
@@ -29,15 +57,11 @@ public class ColorVictory extends Victory {
     }
 
     @Override
-    public String describe(ResourceBundle r) {
-        if (getWinner().equals(Victorieu.egalite))
-            return r.getString("draw");
+    public String describeHand(ResourceBundle r) {
+        String res = super.describeHand(r);
+        if (getWinColor() == null)
+            return res;
 
-        String res = r.getString(getWinner().name()) + " ";
-
-        res += r.getString(getWinType().name());
-        res += " ";
-        res += r.getString(getValueWinner().name());
         res += " ";
         res += r.getString("color_link");
         res += " ";
@@ -45,4 +69,8 @@ public class ColorVictory extends Victory {
 
         return res;
     }
-}
\ No newline at end of file
+
+    private static int indexOf(Victorieu victorieu, ResultType handWinType, Value valueWinner, Color winColor) {
+        return indexOf(victorieu, handWinType, valueWinner) * COLORS.length + winColor.ordinal();
+    }
+}
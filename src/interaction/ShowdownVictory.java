@@ -0,0 +1,89 @@
+package interaction;
+
+import cards.Value;
+
+import java.util.ResourceBundle;
+
+/**
+ * This class represent the victory message of a showdown between several players. The winning hand is
+ * explained by a {@link Victory} against the best hand that doesn't win.<br>
+ *
+ * The winners are the indexes of their hands, starting at 0 as in {@link hands.Showdown}. Only the messages
+ * number the players from 1, as they are read by the players.
+ */
+public class ShowdownVictory {
+    private final int[] winners;
+    private final Victory explanation;
+
+    /**
+     * @param winners the indexes of the winners, starting at 0
+     * @param explanation the explanation of the winning hand
+     */
+    public ShowdownVictory(int[] winners, Victory explanation) {
+        this.winners = winners;
+        this.explanation = explanation;
+    }
+
+    /**
+     * @return the indexes of the winners, starting at 0
+     */
+    public int[] getWinners() {
+        return winners.clone();
+    }
+
+    /**
+     * @return true if several players share the pot
+     */
+    public boolean isSplit() {
+        return winners.length > 1;
+    }
+
+    public Victory getExplanation() {
+        return explanation;
+    }
+
+    public ResultType getWinType() {
+        return explanation.getWinType();
+    }
+
+    public Value getValueWinner() {
+        return explanation.getValueWinner();
+    }
+
+    @Override
+    public String toString() {
+        // The same labels as a victory between two hands
+        String hand = Victory.types.get(getWinType()) + " " + getValueWinner();
+        if (isSplit())
+            return "Les joueurs " + listWinners() + " partagent par " + hand;
+        else
+            return "Le joueur " + (winners[0] + 1) + " gagne par " + hand;
+    }
+
+    public String describe(ResourceBundle r) {
+        String res;
+
+        if (isSplit())
+            res = r.getString("split") + " " + listWinners();
+        else
+            res = r.getString("player") + " " + (winners[0] + 1) + " " + r.getString("player_win");
+
+        res += " ";
+        res += explanation.describeHand(r);
+
+        return res;
+    }
+
+    /**
+     * @return the numbers of the winners as read by the players, starting at 1
+     */
+    private String listWinners() {
+        StringBuilder res = new StringBuilder();
+        for (int i = 0; i < winners.length; i++) {
+            if (i > 0)
+                res.append(", ");
+            res.append(winners[i] + 1);
+        }
+        return res.toString();
+    }
+}
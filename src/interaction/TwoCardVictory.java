@@ -5,19 +5,45 @@ import cards.Value;
 import java.util.ResourceBundle;
 
 public class TwoCardVictory extends Victory{
+    // -- Static fields --
+    // Every outcome of a victory with two values
+    private static final TwoCardVictory[] victories =
+            new TwoCardVictory[WINNERS.length * RESULT_TYPES.length * VALUES.length * VALUES.length];
+    static {
+        for (Victorieu winner : WINNERS)
+            for (ResultType type : RESULT_TYPES)
+                for (Value value : VALUES)
+                    for (Value value2 : VALUES)
+                        victories[indexOf(winner, type, value, value2)] =
+                                new TwoCardVictory(winner, type, value, value2);
+    }
 
+    // -- Fields --
     private final Value valueWinner2;
 
 
+    // -- Constructors --
     public TwoCardVictory(Victorieu victorieu, ResultType handWinType, Value valueWinner, Value cardWinner2) {
-        super(victorieu, handWinType, valueWinner);
+        super(victorieu, handWinType, valueWinner, ordinalOf(cardWinner2), KIND_TWO_CARDS);
         this.valueWinner2 = cardWinner2;
     }
 
+    /**
+     * @return the shared victory of this outcome, a new one if a value is null
+     */
+    public static TwoCardVictory of(Victorieu victorieu, ResultType handWinType, Value valueWinner,
+                                    Value cardWinner2) {
+        if (valueWinner == null || cardWinner2 == null)
+            return new TwoCardVictory(victorieu, handWinType, valueWinner, cardWinner2);
+        return victories[indexOf(victorieu, handWinType, valueWinner, cardWinner2)];
+    }
+
+    // -- Getters --
     public Value getValueWinner2() {
         return valueWinner2;
     }
 
+    // -- Override methods --
     @Override
     public String toString() {
         String res = super.toString();
@@ -26,15 +52,11 @@ public class TwoCardVictory extends Victory{
     }
 
     @Override
-    public String describe(ResourceBundle r) {
-        if (getWinner().equals(Victorieu.egalite))
-            return r.getString("draw");
-
-        String res = r.getString(getWinner().name()) + " ";
+    public String describeHand(ResourceBundle r) {
+        String res = super.describeHand(r);
+        if (getValueWinner2() == null)
+            return res;
 
-        res += r.getString(getWinType().name());
-        res += " ";
-        res += r.getString(getValueWinner().name());
         res += " ";
         res += r.getString("value_link");
         res += " ";
@@ -42,4 +64,9 @@ public class TwoCardVictory extends Victory{
 
         return res;
     }
+
+    private static int indexOf(Victorieu victorieu, ResultType handWinType, Value valueWinner, Value cardWinner2) {
+        return ((victorieu.ordinal() * RESULT_TYPES.length + handWinType.ordinal()) * VALUES.length
+                + valueWinner.ordinal()) * VALUES.length + cardWinner2.ordinal();
+    }
 }
@@ -2,37 +2,127 @@ package interaction;
 
 import cards.Value;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
- * This class represent the victory message
+ * This class represent the victory message.<br>
+ *
+ * A victory is immutable : the instances given by {@link #of(Victorieu, ResultType, Value)},
+ * {@link ColorVictory#of} and {@link TwoCardVictory#of} are created once for every possible outcome and
+ * shared. A victory can also be kept as an int with {@link #getCode()} and found back with
+ * {@link #fromCode(int)}.
  * @author Amine CHOUHABI
  * @author Gabriel Cogne
  */
 public class Victory {
-    protected final HashMap<ResultType,String> types = new HashMap<>(){{
-        put(ResultType.brelan,"brelan de");
-        put(ResultType.carre,"carré de");
-        put(ResultType.couleur,"couleur au");
-        put(ResultType.doublePair,"double pair de");
-        put(ResultType.full,"full aux");
-        put(ResultType.higherCard,"carte la plus elevee :");
-        put(ResultType.pair,"pair de");
-        put(ResultType.quinteFlush,"quinte flush au");
-        put(ResultType.suite,"suite au");
-    }};
+    // -- Static fields --
+    protected static final Map<ResultType,String> types;
+    static {
+        EnumMap<ResultType,String> labels = new EnumMap<>(ResultType.class);
+        labels.put(ResultType.brelan,"brelan de");
+        labels.put(ResultType.carre,"carré de");
+        labels.put(ResultType.couleur,"couleur au");
+        labels.put(ResultType.doublePair,"double pair de");
+        labels.put(ResultType.full,"full aux");
+        labels.put(ResultType.higherCard,"carte la plus elevee :");
+        labels.put(ResultType.pair,"pair de");
+        labels.put(ResultType.quinteFlush,"quinte flush au");
+        labels.put(ResultType.suite,"suite au");
+        types = Collections.unmodifiableMap(labels);
+    }
+
+    // Layout of a code : winner (2 bits), type (4 bits), value (4 bits), extra value or color (4 bits), kind
+    private static final int TYPE_SHIFT = 2;
+    private static final int VALUE_SHIFT = 6;
+    private static final int EXTRA_SHIFT = 10;
+    private static final int KIND_SHIFT = 14;
+    private static final int FIELD_MASK = 0xF;
+
+    /** Upper bound of the codes given by {@link #getCode()} */
+    public static final int NB_CODES = 3 << KIND_SHIFT;
+
+    /** Kind of a code : a {@link Victory} */
+    protected static final int KIND_VICTORY = 0;
+    /** Kind of a code : a {@link ColorVictory} */
+    protected static final int KIND_COLOR = 1;
+    /** Kind of a code : a {@link TwoCardVictory} */
+    protected static final int KIND_TWO_CARDS = 2;
+
+    protected static final Victorieu[] WINNERS = Victorieu.values();
+    protected static final ResultType[] RESULT_TYPES = ResultType.values();
+    protected static final Value[] VALUES = Value.values();
+
+    // Every outcome without a second value or a color
+    private static final Victory[] victories = new Victory[WINNERS.length * RESULT_TYPES.length * (VALUES.length + 1)];
+    static {
+        for (Victorieu winner : WINNERS)
+            for (ResultType type : RESULT_TYPES)
+                for (int value = -1; value < VALUES.length; value++)
+                    victories[indexOf(winner, type, valueOf(value))] =
+                            new Victory(winner, type, valueOf(value));
+    }
+
+    // -- Fields --
     private final Victorieu victorieu;
     private final ResultType handWinType;
     private final Value valueWinner;
+    private final int code;
 
+    // -- Constructors --
     public Victory(Victorieu victorieu, ResultType handWinType,  Value valueWinner){
+        this(victorieu, handWinType, valueWinner, 0, KIND_VICTORY);
+    }
+
+    /**
+     * @param extra the ordinal + 1 of the extra value or color of a sub class, 0 if there is none
+     * @param kind the KIND constant of the sub class
+     */
+    protected Victory(Victorieu victorieu, ResultType handWinType, Value valueWinner, int extra, int kind) {
         this.victorieu = victorieu;
         this.handWinType = handWinType;
         this.valueWinner = valueWinner;
 
+        this.code = victorieu.ordinal()
+                | handWinType.ordinal() << TYPE_SHIFT
+                | ordinalOf(valueWinner) << VALUE_SHIFT
+                | extra << EXTRA_SHIFT
+                | kind << KIND_SHIFT;
+    }
+
+    // -- Factories --
+    /**
+     * @return the shared victory of this outcome
+     */
+    public static Victory of (Victorieu victorieu, ResultType handWinType, Value valueWinner) {
+        return victories[indexOf(victorieu, handWinType, valueWinner)];
+    }
+
+    /**
+     * @param code a code given by {@link #getCode()}
+     * @return the shared victory of the outcome, or an equal one when the factory of the victory doesn't share
+     *         it (a null color or second value)
+     */
+    public static Victory fromCode (int code) {
+        Victorieu winner = WINNERS[code & 0x3];
+        ResultType type = RESULT_TYPES[(code >>> TYPE_SHIFT) & FIELD_MASK];
+        Value value = valueOf(((code >>> VALUE_SHIFT) & FIELD_MASK) - 1);
+        int extra = ((code >>> EXTRA_SHIFT) & FIELD_MASK) - 1;
+
+        switch (code >>> KIND_SHIFT) {
+            case KIND_COLOR:
+                // A color victory without color has an extra of 0
+                return ColorVictory.of(winner, type, value, (extra < 0) ? null : ColorVictory.COLORS[extra]);
+            case KIND_TWO_CARDS:
+                return TwoCardVictory.of(winner, type, value, valueOf(extra));
+            default:
+                return of(winner, type, value);
+        }
     }
 
+    // -- Getters --
     public Victorieu getWinner(){
         return victorieu;
     }
@@ -44,6 +134,24 @@ public class Victory {
         return valueWinner;
     }
 
+    /**
+     * @return an int that contains the whole outcome, see {@link #fromCode(int)}
+     */
+    public int getCode() {
+        return code;
+    }
+
+    // -- Override methods --
+    @Override
+    public boolean equals(Object obj) {
+        return (obj instanceof Victory) && ((Victory) obj).code == code;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
     @Override
     public String toString() {
         if (victorieu == Victorieu.egalite){
@@ -64,12 +172,44 @@ public class Victory {
         if (getWinner().equals(Victorieu.egalite))
             return r.getString("draw");
 
-        String res = r.getString(getWinner().name()) + " ";
+        return r.getString(getWinner().name()) + " " + describeHand(r);
+    }
 
-        res += r.getString(getWinType().name());
-        res += " ";
-        res += r.getString(getValueWinner().name());
+    /**
+     * Describe the winning hand only, without saying who win
+     * @param r the resources used for the messages
+     * @return the type and the value(s) of the winning hand
+     */
+    public String describeHand (ResourceBundle r) {
+        String res = r.getString(getWinType().name());
+        if (getValueWinner() != null) {
+            res += " ";
+            res += r.getString(getValueWinner().name());
+        }
 
         return res;
     }
-}
\ No newline at end of file
+
+    // -- Protected methods --
+    /**
+     * @return the index of an outcome without extra value in a table of victories
+     */
+    protected static int indexOf (Victorieu victorieu, ResultType handWinType, Value valueWinner) {
+        return (victorieu.ordinal() * RESULT_TYPES.length + handWinType.ordinal()) * (VALUES.length + 1)
+                + ordinalOf(valueWinner);
+    }
+
+    /**
+     * @return the ordinal + 1 of a value, 0 for no value
+     */
+    protected static int ordinalOf (Value value) {
+        return (value == null) ? 0 : value.ordinal() + 1;
+    }
+
+    /**
+     * @return the value of an ordinal, null for -1
+     */
+    protected static Value valueOf (int ordinal) {
+        return (ordinal < 0) ? null : VALUES[ordinal];
+    }
+}
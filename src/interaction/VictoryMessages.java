@@ -0,0 +1,140 @@
+package interaction;
+
+import cards.Color;
+import cards.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The messages of every possible {@link Victory}, as given by {@link Victory#describe(ResourceBundle)}. Each
+ * message is rendered once when the table is built, then it's found by the code of the victory
+ * (see {@link Victory#getCode()}) without any lookup in the resources nor concatenation. The encoded bytes of
+ * the messages are also kept, so a message can be written directly in a buffer. Every code that
+ * {@link Victory#fromCode(int)} accepts has a message, including a victory without color or second value.<br>
+ *
+ * A table is immutable once built and can be shared between threads.
+ */
+
+public final class VictoryMessages {
+    // -- Static fields --
+    private static final String BUNDLE = "values.strings";
+    private static final ConcurrentMap<Locale, VictoryMessages> cache = new ConcurrentHashMap<>();
+
+    // -- Fields --
+    private final String[] messages;
+    private final byte[][] bytes;
+
+    // -- Constructors --
+    /**
+     * Render all the messages, encoded in UTF-8
+     * @param r the resources used for the messages
+     */
+    public VictoryMessages (ResourceBundle r) {
+        this(r, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Render all the messages
+     * @param r the resources used for the messages
+     * @param charset the charset of the bytes of the messages
+     */
+    public VictoryMessages (ResourceBundle r, Charset charset) {
+        messages = new String[Victory.NB_CODES];
+        bytes = new byte[Victory.NB_CODES][];
+
+        for (Victorieu winner : Victorieu.values()) {
+            for (ResultType type : ResultType.values()) {
+                for (int value = -1; value < Victory.VALUES.length; value++) {
+                    Value v = Victory.valueOf(value);
+                    render(Victory.of(winner, type, v), r, charset);
+
+                    // The null color and the null second value are rendered too
+                    render(ColorVictory.of(winner, type, v, null), r, charset);
+                    for (Color color : ColorVictory.COLORS)
+                        render(ColorVictory.of(winner, type, v, color), r, charset);
+
+                    for (int value2 = -1; value2 < Victory.VALUES.length; value2++)
+                        render(TwoCardVictory.of(winner, type, v, Victory.valueOf(value2)), r, charset);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param locale a locale
+     * @return the shared table of the messages of the locale, built on the first call
+     */
+    public static VictoryMessages forLocale (Locale locale) {
+        return cache.computeIfAbsent(locale, l -> new VictoryMessages(ResourceBundle.getBundle(BUNDLE, l)));
+    }
+
+    // -- Getters --
+    /**
+     * @param code the code of a victory
+     * @return the message of the victory, null if there is no such code
+     */
+    public String get (int code) {
+        return (code >= 0 && code < messages.length) ? messages[code] : null;
+    }
+
+    /**
+     * @param victory a victory
+     * @return the message of the victory
+     */
+    public String get (Victory victory) {
+        return messages[victory.getCode()];
+    }
+
+    // -- Write methods --
+    /**
+     * Write the bytes of a message in an array
+     * @param code the code of a victory
+     * @param dest the destination array
+     * @param offset the index of the first byte in the array
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if there is no such code
+     */
+    public int write (int code, byte[] dest, int offset) throws IllegalArgumentException {
+        byte[] message = bytesOf(code);
+        System.arraycopy(message, 0, dest, offset, message.length);
+        return message.length;
+    }
+
+    /**
+     * Write the bytes of a message at the position of a buffer
+     * @param code the code of a victory
+     * @param buffer the destination buffer
+     * @throws IllegalArgumentException if there is no such code
+     */
+    public void write (int code, ByteBuffer buffer) throws IllegalArgumentException {
+        buffer.put(bytesOf(code));
+    }
+
+    /**
+     * @param code the code of a victory
+     * @return the number of bytes of the message
+     * @throws IllegalArgumentException if there is no such code
+     */
+    public int length (int code) throws IllegalArgumentException {
+        return bytesOf(code).length;
+    }
+
+    // -- Private methods --
+    private byte[] bytesOf (int code) throws IllegalArgumentException {
+        if (code < 0 || code >= bytes.length || bytes[code] == null)
+            throw new IllegalArgumentException("No victory of code " + code);
+        return bytes[code];
+    }
+
+    private void render (Victory victory, ResourceBundle r, Charset charset) {
+        String message = victory.describe(r);
+        messages[victory.getCode()] = message;
+        bytes[victory.getCode()] = message.getBytes(charset);
+    }
+}
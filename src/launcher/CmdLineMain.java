@@ -2,15 +2,34 @@ package launcher;
 
 import util.cmdline.CmdLineController;
 
+import java.io.*;
+
 /**
- * This will launch the app in command line version
+ * This will launch the app in command line version.<br>
+ *
+ * With "--batch [input file] [output file]" as arguments, the app compare a stream of pairs of hands, one
+ * pair by line written as "hand1 | hand2", and write one result by line. Without files, the standard input
+ * and output are used.
  *
  * @author Gabriel Cogne
  */
 
 public class CmdLineMain {
-    public static void main(String[] args) {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    public static void main(String[] args) throws IOException {
         CmdLineController controller = new CmdLineController();
-        controller.run();
+
+        if (args.length > 0 && args[0].equals("--batch")) {
+            InputStream in = (args.length > 1) ? new FileInputStream(args[1]) : System.in;
+            OutputStream out = (args.length > 2) ? new FileOutputStream(args[2]) : System.out;
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in), BUFFER_SIZE);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out), BUFFER_SIZE)) {
+                controller.runBatch(reader, writer);
+            }
+        } else {
+            controller.run();
+        }
     }
 }
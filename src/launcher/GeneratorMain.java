@@ -0,0 +1,74 @@
+package launcher;
+
+import hands.DealGenerator;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * This will write random pairs of hands, one pair by line written as "hand1 | hand2", to load the batch mode
+ * of {@link CmdLineMain}.<br>
+ *
+ * The arguments are "[--deals number] [--seed seed] [--flush percent] [--ties percent] [output file]". The
+ * same seed and options always give the same lines. Without file, the lines are written on the standard
+ * output, so they can be piped into the batch mode.
+ */
+
+public class GeneratorMain {
+    private static final String USAGE =
+            "Usage : GeneratorMain [--deals number] [--seed seed] [--flush percent] [--ties percent] [output file]";
+
+    public static void main(String[] args) throws IOException {
+        long nbDeals = 1000000;
+        long seed = 0;
+        double flushPercent = 0;
+        double tiePercent = 0;
+        String file = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--deals":
+                        nbDeals = Long.parseLong(args[++i]);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(args[++i]);
+                        break;
+                    case "--flush":
+                        flushPercent = Double.parseDouble(args[++i]);
+                        break;
+                    case "--ties":
+                        tiePercent = Double.parseDouble(args[++i]);
+                        break;
+                    default:
+                        // An unknown option or a second file is a mistake, not the name of the file
+                        if (args[i].startsWith("--") || file != null)
+                            throw new IllegalArgumentException(args[i]);
+                        file = args[i];
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        DealGenerator generator = new DealGenerator(seed);
+        try {
+            generator.setFlushPercent(flushPercent);
+            generator.setTiePercent(tiePercent);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        try (OutputStream out = (file != null) ? new FileOutputStream(file) : System.out) {
+            long bytes = generator.write(out, nbDeals);
+
+            if (file != null)
+                System.out.println(nbDeals + " deals (" + bytes / 1000000 + " MB) written in " + file + " in "
+                        + (System.nanoTime() - start) / 1000000 + " ms");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package launcher;
+
+import cards.Card;
+import cards.Value;
+import hands.BitHand;
+import hands.Hand;
+import hands.HandIndex;
+import hands.HandRankTable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * This will build or check the table of the ranks of every 5-card hand.<br>
+ *
+ * With "generate [file]" as arguments, the table is computed and written in the file. With "verify [file]
+ * [number of pairs]", the table is loaded from the file and random pairs of hands are compared with the
+ * table and with the detectors of {@link Hand}.
+ */
+
+public class RankTableMain {
+    private static final String DEFAULT_FILE = "hand-ranks.bin";
+
+    public static void main(String[] args) throws IOException {
+        String command = (args.length > 0) ? args[0] : "generate";
+        Path file = Paths.get((args.length > 1) ? args[1] : DEFAULT_FILE);
+
+        if (command.equals("generate")) {
+            long start = System.nanoTime();
+            HandRankTable.generate().write(file);
+            System.out.println("Table written in " + file + " in " + (System.nanoTime() - start) / 1000000 + " ms");
+        } else if (command.equals("verify")) {
+            long start = System.nanoTime();
+            HandRankTable table = HandRankTable.load(file);
+            System.out.println("Table loaded in " + (System.nanoTime() - start) / 1e6 + " ms");
+
+            int nbPairs = (args.length > 2) ? Integer.parseInt(args[2]) : 1000000;
+            int errors = verify(table, nbPairs, new SplittableRandom());
+            System.out.println(errors + " different result(s) on " + nbPairs + " pairs");
+            if (errors > 0)
+                System.exit(1);
+        } else {
+            System.err.println("Usage : RankTableMain generate|verify [file] [number of pairs]");
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Compare random pairs of hands with the table and with the detectors of {@link Hand}. The detectors don't
+     * use the {@link hands.HandEvaluator} the table is built from, so a wrong strength can't be in both
+     * @return the number of pairs where the two results are not the same
+     */
+    static int verify (HandRankTable table, int nbPairs, SplittableRandom random) {
+        int errors = 0;
+
+        for (int i = 0; i < nbPairs; i++) {
+            long mask1 = randomHand(random, 0);
+            long mask2 = randomHand(random, mask1);
+
+            int rank1 = table.getRank(HandIndex.indexOf(mask1));
+            int rank2 = table.getRank(HandIndex.indexOf(mask2));
+            int expected = compareWithDetectors(BitHand.ofMask(mask1).toHand(), BitHand.ofMask(mask2).toHand());
+
+            if (Integer.signum(rank1 - rank2) != expected)
+                errors++;
+        }
+
+        return errors;
+    }
+
+    /**
+     * The reference comparison of {@link #verify(HandRankTable, int, SplittableRandom)} : the category of each
+     * hand is found with the detectors of {@link Hand}, then the hands of the same category are decided by
+     * their values, the values made of more cards first, then the highest first
+     * @param h1 a hand of 5 cards
+     * @param h2 another hand of 5 cards
+     * @return 1 if the first hand is the best, -1 if the second one is the best, 0 on draw
+     */
+    public static int compareWithDetectors (Hand h1, Hand h2) {
+        int[] key1 = keyOf(h1), key2 = keyOf(h2);
+        for (int i = 0; i < key1.length; i++) {
+            if (key1[i] != key2[i])
+                return Integer.signum(key1[i] - key2[i]);
+        }
+        return 0;
+    }
+
+    /**
+     * @return the category of the hand, from 0 (highest card) to 8 (straight flush), followed by its values
+     *         sorted by number of cards then by value, padded with -1
+     */
+    private static int[] keyOf (Hand hand) {
+        int category;
+        if (hand.isStraightFlush() != null)
+            category = 8;
+        else if (hand.isSquare() != null)
+            category = 7;
+        else if (hand.getFull() != null)
+            category = 6;
+        else if (hand.isFlush() != null)
+            category = 5;
+        else if (hand.isStraight() != null)
+            category = 4;
+        else if (hand.getBrelan() != null)
+            category = 3;
+        else if (hand.getDoublePairCards() != null)
+            category = 2;
+        else if (hand.getPairCards() != null)
+            category = 1;
+        else
+            category = 0;
+
+        int[] counts = new int[Value.values().length];
+        for (Card card : hand) {
+            counts[card.getValue().ordinal()]++;
+        }
+
+        int[] key = new int[1 + HandIndex.HAND_SIZE];
+        Arrays.fill(key, -1);
+        key[0] = category;
+        int size = 1;
+        for (int count = 4; count > 0; count--) {
+            for (int value = counts.length - 1; value >= 0; value--) {
+                if (counts[value] == count)
+                    key[size++] = value;
+            }
+        }
+        return key;
+    }
+
+    private static long randomHand (SplittableRandom random, long dead) {
+        long mask = 0;
+        while (Long.bitCount(mask) < HandIndex.HAND_SIZE) {
+            long card = 1L << random.nextInt(52);
+            if ((dead & card) == 0)
+                mask |= card;
+        }
+        return mask;
+    }
+}
@@ -2,9 +2,14 @@ package util.cmdline;
 
 import hands.Hand;
 import hands.HandComparator;
+import hands.DeckContext;
 import hands.HandBuilder;
 import interaction.Victory;
+import interaction.VictoryMessages;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -16,11 +21,20 @@ import java.util.ResourceBundle;
  */
 
 public class CmdLineController {
+    // -- Static fields --
+    private static final int HAND_SIZE = 5;
+
     // -- Variables --
     private final CmdLineUserInterface ui;
     private final HandComparator comparator;
     private final HandBuilder builder;
 
+    // The deal and the card codes of a line of the batch mode
+    private final DeckContext deal;
+    private final byte[] lineCodes;
+    // The messages of the batch mode, rendered on the first batch
+    private VictoryMessages messages;
+
     private ResourceBundle r;
 
     private boolean highway2toString = false;
@@ -30,6 +44,8 @@ public class CmdLineController {
         ui = new CmdLineUserInterface(this);
         comparator = new HandComparator();
         builder = new HandBuilder();
+        deal = new DeckContext();
+        lineCodes = new byte[HandComparator.PAIR_LENGTH];
 
         try {
             r = ResourceBundle.getBundle("values.strings", Locale.getDefault());
@@ -50,6 +66,8 @@ public class CmdLineController {
 
         while(hand1 == null || hand2 == null) {
             try {
+                // Each try is a new deal, the cards of a hand asked before can be used again
+                builder.reset();
                 if (highway2toString) {
                     hand1 = ui.askPlayer("Main 1 : ", builder);
                     hand2 = ui.askPlayer("Main 2 : ", builder);
@@ -79,4 +97,51 @@ public class CmdLineController {
         else
             ui.printVictory(victory);
     }
+
+    /**
+     * This will compare a stream of pairs of hands, one pair by line written as "hand1 | hand2", and write
+     * one result by line. The lines are read and written as they come, so a single run can compare millions
+     * of pairs. A bad line give an error message on its result line and doesn't stop the stream.
+     * @param in the lines to compare
+     * @param out where the results are written, it should be buffered
+     * @throws IOException if the stream can't be read or written
+     */
+    public void runBatch (BufferedReader in, Writer out) throws IOException {
+        String line;
+
+        if (messages == null && !highway2toString)
+            messages = new VictoryMessages(r);
+
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank())
+                continue;
+
+            out.write(compareLine(line));
+            out.write('\n');
+        }
+
+        out.flush();
+    }
+
+    /**
+     * Compare the two hands of a line
+     * @param line a line written as "hand1 | hand2"
+     * @return the result message, or an error message
+     */
+    private String compareLine (String line) {
+        int separator = line.indexOf('|');
+
+        // Each line is a new deal, a bad line is detected without raising an exception
+        deal.reset();
+        if (separator < 0
+                || HandBuilder.tryParse(line, 0, separator, deal, lineCodes, 0) != HandBuilder.PARSE_OK
+                || HandBuilder.tryParse(line, separator + 1, line.length(), deal, lineCodes, HAND_SIZE)
+                        != HandBuilder.PARSE_OK)
+            return highway2toString ? "Une erreur de saisie à été détecté." : r.getString("hand_creation_error");
+
+        // The cards of a deal are all different, so the comparison can't fail. The victory is a shared
+        // instance and its message is already rendered, so nothing is created for a line
+        Victory victory = comparator.compare(lineCodes, 0);
+        return highway2toString ? victory.toString() : messages.get(victory);
+    }
 }
@@ -74,4 +74,23 @@ public class CardTest {
 
         assertNotEquals(card2.getColor(), card1.getColor());
     }
+
+    /**
+     * Test on the packed code and the shared instances of the <i>Card</i> class.
+     */
+    @Test
+    public void testPackedCode () {
+        card1 = Card.of(Value.queen, Color.Pi);
+
+        assertSame(card1, Card.of(card1.getCode()), "Test shared instance");
+        assertEquals(Value.queen, Card.valueOfCode(card1.getCode()), "Test value of code");
+        assertEquals(Color.Pi, Card.colorOfCode(card1.getCode()), "Test color of code");
+        assertEquals(new Card(Value.queen, Color.Pi), card1, "Test equals with a new card");
+        assertEquals(new Card(Value.queen, Color.Pi).hashCode(), card1.hashCode(), "Test hashCode");
+        assertEquals(-1, new Card(Value.queen).getCode(), "Test code of a card without color");
+
+        for (int code = 0; code < Card.DECK_SIZE; code++) {
+            assertEquals(code, Card.of(code).getCode(), "Test code " + code);
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package cards;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>Deck</i>
+ */
+
+public class DeckTest {
+
+    @Test
+    public void testDealAllCards () {
+        Deck deck = new Deck();
+        RandomSource random = new SplittableRandom(1)::nextInt;
+
+        long mask = deck.dealMask(Card.DECK_SIZE, random);
+        assertEquals(-1L >>> (64 - Card.DECK_SIZE), mask, "Test every card is dealt once");
+        assertEquals(mask, deck.getDealt(), "Test dealt cards");
+        assertEquals(0, deck.remaining(), "Test empty deck");
+        assertThrows(IllegalStateException.class, () -> deck.deal(random), "Test no more card");
+
+        deck.reset();
+        assertEquals(Card.DECK_SIZE, deck.remaining(), "Test reset");
+        assertEquals(0, deck.getDealt(), "Test no dealt card");
+    }
+
+    @Test
+    public void testDeadCards () {
+        long dead = 1L | 1L << 10 | 1L << 51;
+        Deck deck = new Deck(dead);
+        RandomSource random = new SplittableRandom(2)::nextInt;
+
+        assertEquals(Card.DECK_SIZE - 3, deck.remaining(), "Test size without the dead cards");
+        for (int n = 0; n < 1000; n++) {
+            deck.reset();
+            assertEquals(0, deck.dealMask(7, random) & dead, "Test a dead card is never dealt");
+        }
+
+        deck.setDead(0);
+        assertEquals(Card.DECK_SIZE, deck.remaining(), "Test size without dead card");
+    }
+
+    @Test
+    public void testSeededDeals () {
+        Deck deck1 = new Deck();
+        Deck deck2 = new Deck();
+        RandomSource random1 = new SplittableRandom(3)::nextInt;
+        RandomSource random2 = new SplittableRandom(3)::nextInt;
+
+        byte[] cards1 = new byte[10];
+        byte[] cards2 = new byte[10];
+        deck1.deal(10, random1, cards1, 0);
+        deck2.deal(10, random2, cards2, 0);
+        assertArrayEquals(cards1, cards2, "Test same seed, same deal");
+    }
+
+    @Test
+    public void testUniformDeal () {
+        Deck deck = new Deck();
+        RandomSource random = new SplittableRandom(4)::nextInt;
+        int[] counts = new int[Card.DECK_SIZE];
+
+        for (int n = 0; n < 52000; n++) {
+            deck.reset();
+            counts[deck.deal(random)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 800 && count < 1200, "Test each card is dealt about 1000 times");
+        }
+    }
+}
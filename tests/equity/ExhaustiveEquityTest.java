@@ -0,0 +1,63 @@
+package equity;
+
+import hands.BitHand;
+import hands.HandBuilder;
+import interaction.ResultType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>ExhaustiveEquity</i> class
+ */
+
+public class ExhaustiveEquityTest {
+
+    @Test
+    public void testFlop () throws Exception {
+        HandBuilder builder = new HandBuilder();
+        // Only the first two cards of each hand are the hole cards
+        long[] hands = {
+                BitHand.maskOf(builder.buildHandFromString("ACo RCo 2Tr 3Tr 4Tr").subList(0, 2)),
+                BitHand.maskOf(builder.buildHandFromString("DPi DTr 2Pi 3Pi 4Pi").subList(0, 2))
+        };
+        long flop = BitHand.maskOf(builder.buildHandFromString("VCo 10Co 7Ca 5Ca 6Ca").subList(0, 3));
+
+        EquityResult result = new ExhaustiveEquity().compute(hands, flop);
+
+        assertEquals(990, result.getSamples(), "Test all the turns and rivers are evaluated");
+        assertEquals(result.getSamples(), result.getWins(0) + result.getTies(0) + result.getLosses(0));
+        assertEquals(1, result.getEquity(0) + result.getEquity(1), 1e-9, "Test the equities sum to 1");
+        assertTrue(result.getEquity(0) > 0.5, "Test the flush and straight draws are ahead of the queens");
+        assertTrue(result.getTypePercent(0, ResultType.quinteFlush) > 0, "Test the royal flush is counted");
+    }
+
+    @Test
+    public void testSameAsMonteCarlo () {
+        long aces = BitHand.of(48, 49).getMask();
+        long kings = BitHand.of(44, 45).getMask();
+        long flop = BitHand.of(0, 5, 10).getMask();
+
+        EquityResult exact = new ExhaustiveEquity().compute(new long[] {aces, kings}, flop);
+
+        MonteCarloEquity monteCarlo = new MonteCarloEquity(5);
+        monteCarlo.setTargetHalfWidth(0.005);
+        monteCarlo.setTimeBudget(10_000);
+        EquityResult sampled = monteCarlo.compute(new long[] {aces, kings}, flop);
+
+        assertEquals(exact.getEquity(0), sampled.getEquity(0), 0.02, "Test the sampling is close to the exact");
+    }
+
+    @Test
+    public void testTooManyHoleCards () {
+        // With the 5 cards of the board, 3 hole cards would give a hand of 8 cards
+        long threeCards = BitHand.of(48, 49, 50).getMask();
+        long kings = BitHand.of(44, 45).getMask();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExhaustiveEquity().compute(new long[] {threeCards, kings}, 0), "Test without board");
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExhaustiveEquity().compute(new long[] {threeCards, kings}, BitHand.of(0, 5, 10).getMask()),
+                "Test with a flop");
+    }
+}
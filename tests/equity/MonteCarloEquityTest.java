@@ -0,0 +1,79 @@
+package equity;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import hands.BitHand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>MonteCarloEquity</i> class
+ */
+
+public class MonteCarloEquityTest {
+
+    private static long mask (Value v1, Color c1, Value v2, Color c2) {
+        return BitHand.of(Card.encode(v1, c1), Card.encode(v2, c2)).getMask();
+    }
+
+    @Test
+    public void testAcesAgainstKings () {
+        long aces = mask(Value.ace, Color.Pi, Value.ace, Color.Co);
+        long kings = mask(Value.king, Color.Pi, Value.king, Color.Co);
+
+        MonteCarloEquity calculator = new MonteCarloEquity(7);
+        calculator.setTargetHalfWidth(0.01);
+        calculator.setTimeBudget(10_000);
+
+        EquityResult result = calculator.compute(new long[] {aces, kings}, 0);
+
+        assertTrue(result.getEquity(0) > 0.78 && result.getEquity(0) < 0.86,
+                "Test aces have about 82% against kings : " + result.getEquity(0));
+        assertEquals(1, result.getEquity(0) + result.getEquity(1), 1e-9, "Test the equities sum to 1");
+        assertEquals(result.getSamples(), result.getWins(0) + result.getTies(0) + result.getLosses(0));
+    }
+
+    @Test
+    public void testSameSeedSameResult () {
+        long aces = mask(Value.ace, Color.Pi, Value.ace, Color.Co);
+        long suitedConnectors = mask(Value.seven, Color.Tr, Value.eight, Color.Tr);
+
+        MonteCarloEquity calculator = new MonteCarloEquity(3, 4);
+        // Only the number of samples stop the computation, never the time
+        calculator.setMaxSamples(40_000);
+        calculator.setTargetHalfWidth(0);
+        calculator.setTimeBudget(Long.MAX_VALUE);
+
+        EquityResult first = calculator.compute(new long[] {aces, suitedConnectors}, 0);
+        EquityResult second = calculator.compute(new long[] {aces, suitedConnectors}, 0);
+        assertEquals(40_000, first.getSamples(), "Test the number of samples");
+        assertEquals(first.getSamples(), second.getSamples(), "Test same number of samples");
+        assertEquals(first.getWins(1), second.getWins(1), "Test reproducibility");
+    }
+
+    @Test
+    public void testCompleteBoard () {
+        long aces = mask(Value.ace, Color.Pi, Value.ace, Color.Co);
+        long kings = mask(Value.king, Color.Pi, Value.king, Color.Co);
+        long board = mask(Value.king, Color.Tr, Value.two, Color.Ca) | mask(Value.five, Color.Co, Value.nine,
+                Color.Tr) | BitHand.of(Card.encode(Value.jack, Color.Ca)).getMask();
+
+        EquityResult result = new MonteCarloEquity(1).compute(new long[] {aces, kings}, board);
+
+        assertEquals(0, result.getEquity(0), "Test kings win with a trip");
+
+        try {
+            new MonteCarloEquity(1).compute(new long[] {aces, aces}, 0);
+            fail("A card can't be used twice");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Card already existing", e.getMessage());
+        }
+
+        // With the 5 cards of the board, 3 hole cards would give a hand of 8 cards
+        long threeCards = aces | BitHand.of(Card.encode(Value.ace, Color.Tr)).getMask();
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloEquity(1).compute(new long[] {threeCards, kings}, 0), "Test 3 hole cards");
+    }
+}
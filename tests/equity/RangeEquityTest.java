@@ -0,0 +1,86 @@
+package equity;
+
+import hands.BitHand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>RangeEquity</i> class
+ */
+
+public class RangeEquityTest {
+
+    @Test
+    public void testSameAsPairs () {
+        Range range1 = Range.parse("AKs, QQ, 76s:0.5");
+        Range range2 = Range.parse("JJ+:0.5, T9s, AQo");
+        long flop = BitHand.of(0, 5, 42).getMask();
+
+        RangeEquityResult result = new RangeEquity(1).compute(range1, range2, flop);
+        assertTrue(result.isExact(), "Test every turn and river is evaluated");
+        assertEquals(1, result.getEquity(0) + result.getEquity(1), 1e-9, "Test the equities sum to 1");
+
+        // The same equity computed pair of combos by pair of combos
+        ExhaustiveEquity exhaustive = new ExhaustiveEquity();
+        double won = 0, met = 0;
+        for (int i = 0; i < range1.size(); i++) {
+            double comboWon = 0, comboMet = 0;
+            for (int j = 0; j < range2.size(); j++) {
+                long combo1 = range1.getMask(i), combo2 = range2.getMask(j);
+                if (((combo1 | combo2) & flop) != 0 || (combo1 & combo2) != 0)
+                    continue;
+
+                double weight = range2.getWeight(j);
+                comboWon += weight * exhaustive.compute(new long[] {combo1, combo2}, flop).getEquity(0);
+                comboMet += weight;
+            }
+
+            if (comboMet == 0) {
+                assertTrue(Double.isNaN(result.getComboEquity(0, i)), "Test combo that can't be dealt");
+                continue;
+            }
+            assertEquals(comboWon / comboMet, result.getComboEquity(0, i), 1e-9, "Test combo " + i);
+            won += range1.getWeight(i) * comboWon;
+            met += range1.getWeight(i) * comboMet;
+        }
+        assertEquals(won / met, result.getEquity(0), 1e-9, "Test equity of the range");
+    }
+
+    @Test
+    public void testPreflop () {
+        RangeEquity equity = new RangeEquity(2);
+        equity.setMaxBoards(20_000);
+        RangeEquityResult result = equity.compute(Range.parse("AA"), Range.parse("KK"), 0);
+
+        assertFalse(result.isExact(), "Test the boards are sampled");
+        assertEquals(20_000, result.getBoards());
+        assertEquals(0.82, result.getEquity(0), 0.02, "Test aces against kings");
+
+        RangeEquityResult same = equity.compute(Range.parse("AA"), Range.parse("KK"), 0);
+        assertEquals(result.getEquity(0), same.getEquity(0), "Test same seed");
+    }
+
+    @Test
+    public void testCardRemoval () {
+        // The board holds two aces and two kings, the only aces and kings left are Ca and Co
+        long board = BitHand.of(51, 50, 47, 46, 0).getMask();
+        assertThrows(IllegalArgumentException.class,
+                () -> new RangeEquity(3).compute(Range.parse("AKs"), Range.parse("KK"), board),
+                "Test no combo can be dealt");
+
+        RangeEquityResult result = new RangeEquity(3).compute(Range.parse("AA"), Range.parse("KK"), board);
+        assertEquals(1, result.getBoards(), "Test river");
+        assertEquals(1, result.getComboEquity(0, 0), "Test quad aces against quad kings");
+        assertEquals(1, result.getEquity(0), "Test equity of the range");
+        assertTrue(Double.isNaN(result.getComboEquity(0, 5)), "Test aces sharing a card with the board");
+    }
+
+    @Test
+    public void testBoardTooBig () {
+        long board = BitHand.of(51, 50, 47, 46, 0, 1).getMask();
+        assertThrows(IllegalArgumentException.class,
+                () -> new RangeEquity(3).compute(Range.parse("AA"), Range.parse("KK"), board),
+                "Test board of 6 cards");
+    }
+}
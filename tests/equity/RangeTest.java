@@ -0,0 +1,103 @@
+package equity;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>Range</i> class
+ */
+
+public class RangeTest {
+
+    @Test
+    public void testClasses () {
+        assertEquals(6, Range.parse("QQ").size(), "Test pair");
+        assertEquals(18, Range.parse("QQ+").size(), "Test pairs and better");
+        assertEquals(78, Range.parse("22+").size(), "Test every pair");
+        assertEquals(30, Range.parse("QQ-88").size(), "Test range of pairs");
+        assertEquals(16, Range.parse("AK").size(), "Test any colors");
+        assertEquals(4, Range.parse("AKs").size(), "Test suited");
+        assertEquals(12, Range.parse("AKo").size(), "Test offsuit");
+        assertEquals(16, Range.parse("ATs+").size(), "Test raised kicker");
+        assertEquals(16, Range.parse("A5s-A2s").size(), "Test range of kickers");
+        assertEquals(16, Range.parse("T9s-76s").size(), "Test suited connectors");
+        assertEquals(Range.NB_COMBOS, Range.parse("22+, A2+, K2+, Q2+, J2+, T2+, 92+, 82+, 72+, 62+, 52+, 42+, 32")
+                .size(), "Test every combo");
+    }
+
+    @Test
+    public void testNotation () {
+        Range range = Range.parse("QQ+, AKs, T9s-76s");
+        assertEquals(18 + 4 + 16, range.size());
+
+        long suitedAceKing = (1L << Card.encode(Value.ace, Color.Pi)) | (1L << Card.encode(Value.king, Color.Pi));
+        long offsuitAceKing = (1L << Card.encode(Value.ace, Color.Pi)) | (1L << Card.encode(Value.king, Color.Co));
+        long eightSeven = (1L << Card.encode(Value.eight, Color.Tr)) | (1L << Card.encode(Value.seven, Color.Tr));
+        assertEquals(1, range.getWeightOf(suitedAceKing), "Test suited combo");
+        assertEquals(0, range.getWeightOf(offsuitAceKing), "Test offsuit combo not in the range");
+        assertEquals(1, range.getWeightOf(eightSeven), "Test connector inside the range");
+
+        assertEquals(Range.parse("AKs").toString(), Range.parse("KAs").toString(), "Test order of the values");
+        assertEquals(Range.parse("DD+, AVs").toString(), Range.parse("QQ+, AJs").toString(), "Test french letters");
+        assertEquals(Range.parse("1010").toString(), Range.parse("TT").toString(), "Test ten");
+    }
+
+    @Test
+    public void testWeights () {
+        Range range = Range.parse("AK:0.5, AKs");
+        assertEquals(16, range.size());
+        assertEquals(12 * 0.5 + 4, range.getTotalWeight(), 1e-9, "Test the last weight is kept");
+
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AK:2"), "Test weight above 1");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AK:x"), "Test bad weight");
+    }
+
+    @Test
+    public void testErrors () {
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AX"), "Test bad value");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("QQs"), "Test suited pair");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AKs-75s"), "Test bad range");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AKs-AQo"), "Test range of other suits");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("AKsx"), "Test trailing letter");
+    }
+
+    @Test
+    public void testCombos () {
+        Range range = Range.parse("APiRCo, 10Tr9Tr:0.5");
+        assertEquals(2, range.size());
+
+        long aceKing = (1L << Card.encode(Value.ace, Color.Pi)) | (1L << Card.encode(Value.king, Color.Co));
+        long tenNine = (1L << Card.encode(Value.ten, Color.Tr)) | (1L << Card.encode(Value.nine, Color.Tr));
+        assertEquals(1, range.getWeightOf(aceKing), "Test combo");
+        assertEquals(0.5, range.getWeightOf(tenNine), "Test combo with a weight");
+
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("APiAPi"), "Test same card twice");
+        assertThrows(IllegalArgumentException.class, () -> Range.parse("APiRXx"), "Test bad card");
+    }
+
+    @Test
+    public void testToString () {
+        assertEquals("AA, AKs, QJo:0.5", Range.parse("AKs, AA, QJo:0.5").toString(), "Test classes");
+        assertEquals("AK", Range.parse("AKs, AKo").toString(), "Test suited and offsuit");
+        assertEquals("AKs, AKo:0.5", Range.parse("AKo:0.5, AKs").toString(), "Test different weights");
+        assertEquals("ACoRCo", Range.parse("ACoRCo").toString(), "Test combo");
+
+        Range range = Range.parse("QQ+, AK:0.25, T9s-76s, 22:0.5, 55:0");
+        range.add(Card.encode(Value.king, Color.Tr), Card.encode(Value.ace, Color.Ca), 0.75);
+        range.add(Card.encode(Value.two, Color.Pi), Card.encode(Value.seven, Color.Tr), 1);
+        assertSameRange(range, Range.parse(range.toString()));
+        assertSameRange(Range.parse("22+, A2+, K2+"), Range.parse(Range.parse("22+, A2+, K2+").toString()));
+    }
+
+    private static void assertSameRange (Range expected, Range actual) {
+        assertEquals(expected.size(), actual.size(), "Test same size : " + actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getWeight(i), actual.getWeightOf(expected.getMask(i)),
+                    "Test same weight of combo " + i + " : " + actual);
+        }
+    }
+}
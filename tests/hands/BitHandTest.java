@@ -0,0 +1,62 @@
+package hands;
+
+import cards.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>BitHand</i> class
+ */
+
+public class BitHandTest {
+    private HandBuilder builder;
+
+    @BeforeEach
+    public void initHands() {
+        builder = new HandBuilder();
+    }
+
+    @Test
+    public void testConversions () throws Exception {
+        Hand hand = builder.buildHandFromString("7Tr 6Pi 5Pi 5Tr 5Ca");
+        BitHand bitHand = BitHand.of(hand);
+
+        assertEquals(5, bitHand.size(), "Test size");
+        assertEquals(5, bitHand.toCodes().length, "Test codes");
+        assertTrue(bitHand.toHand().containsAll(hand), "Test all cards are converted back");
+        assertEquals(bitHand, BitHand.of(bitHand.toHand()), "Test equals after a round trip");
+    }
+
+    @Test
+    public void testSameValues () throws Exception {
+        BitHand full = BitHand.of(builder.buildHandFromString("9Pi 9Tr 9Co APi ACo"));
+        BitHand square = BitHand.of(builder.buildHandFromString("7Pi 7Ca 7Co 7Tr 4Co"));
+        BitHand doublePair = BitHand.of(builder.buildHandFromString("2Pi 8Tr 5Co 5Tr 2Tr"));
+
+        assertEquals(1 << Value.nine.ordinal(), full.getTrips(), "Test trips of a full");
+        assertEquals(1 << Value.ace.ordinal(), full.getPairs(), "Test pairs of a full");
+        assertEquals(0, full.getQuads(), "Test no quads in a full");
+
+        assertEquals(1 << Value.seven.ordinal(), square.getQuads(), "Test quads");
+        assertEquals(0, square.getTrips(), "Test no trips in a square");
+
+        assertEquals((1 << Value.two.ordinal()) | (1 << Value.five.ordinal()), doublePair.getPairs(),
+                "Test double pair");
+    }
+
+    @Test
+    public void testFlushAndStraight () throws Exception {
+        BitHand straightFlush = BitHand.of(builder.buildHandFromString("7Tr 6Tr 8Tr 9Tr 5Tr"));
+        BitHand straight = BitHand.of(builder.buildHandFromString("7Pi 6Pi 8Pi 9Pi 5Co"));
+        BitHand flush = BitHand.of(builder.buildHandFromString("7Ca 6Ca DCa 9Ca 8Ca"));
+
+        assertEquals(Value.nine.ordinal(), straightFlush.getStraightFlush(), "Test straight flush");
+        assertEquals(Value.nine.ordinal(), straight.getStraight(), "Test straight");
+        assertEquals(-1, straight.getFlush(), "Test straight is not a flush");
+        assertEquals(-1, straight.getStraightFlush(), "Test straight is not a straight flush");
+        assertEquals(Value.queen.ordinal(), flush.getFlush(), "Test flush");
+        assertEquals(-1, flush.getStraight(), "Test flush is not a straight");
+    }
+}
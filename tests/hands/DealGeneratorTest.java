@@ -0,0 +1,117 @@
+package hands;
+
+import interaction.ResultType;
+import interaction.Victorieu;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>DealGenerator</i>
+ */
+
+public class DealGeneratorTest {
+
+    @Test
+    public void testLines () throws IOException {
+        String[] lines = generate(new DealGenerator(1), 1000);
+        assertEquals(1000, lines.length, "Test number of lines");
+
+        byte[] codes = new byte[HandComparator.PAIR_LENGTH];
+        for (String line : lines)
+            assertEquals(10, parse(line, codes), "Test " + line);
+    }
+
+    @Test
+    public void testSeed () throws IOException {
+        assertArrayEquals(generate(new DealGenerator(2), 500), generate(new DealGenerator(2), 500),
+                "Test same seed");
+        assertFalse(generate(new DealGenerator(2), 10)[0].equals(generate(new DealGenerator(3), 10)[0]),
+                "Test other seed");
+    }
+
+    @Test
+    public void testFlushes () throws IOException {
+        DealGenerator generator = new DealGenerator(4);
+        generator.setFlushPercent(100);
+        byte[] codes = new byte[HandComparator.PAIR_LENGTH];
+
+        for (String line : generate(generator, 1000)) {
+            parse(line, codes);
+            for (int offset = 0; offset < 10; offset += 5) {
+                ResultType type = HandClassification.ofMask(maskOf(codes, offset)).getResultType();
+                assertTrue(type == ResultType.couleur || type == ResultType.quinteFlush, "Test flush " + line);
+            }
+        }
+    }
+
+    @Test
+    public void testTies () throws IOException {
+        DealGenerator generator = new DealGenerator(5);
+        generator.setTiePercent(100);
+        HandComparator comparator = new HandComparator();
+        byte[] codes = new byte[HandComparator.PAIR_LENGTH];
+
+        for (String line : generate(generator, 1000)) {
+            parse(line, codes);
+            Hand hand1 = BitHand.ofMask(maskOf(codes, 0)).toHand();
+            Hand hand2 = BitHand.ofMask(maskOf(codes, 5)).toHand();
+            assertEquals(Victorieu.egalite, comparator.getWinner(hand1, hand2), "Test tie " + line);
+        }
+    }
+
+    @Test
+    public void testPercents () throws IOException {
+        DealGenerator generator = new DealGenerator(6);
+        generator.setFlushPercent(60);
+        assertThrows(IllegalArgumentException.class, () -> generator.setTiePercent(50), "Test sum above 100");
+        assertThrows(IllegalArgumentException.class, () -> generator.setFlushPercent(-1), "Test negative");
+
+        // The rejected calls kept 60% of flushes and no tie, so the other deals are random
+        byte[] codes = new byte[HandComparator.PAIR_LENGTH];
+        int flushes = 0, ties = 0;
+        for (String line : generate(generator, 2000)) {
+            parse(line, codes);
+            if (isFlush(maskOf(codes, 0)) && isFlush(maskOf(codes, 5)))
+                flushes++;
+            else if (BitHand.values(maskOf(codes, 0)) == BitHand.values(maskOf(codes, 5)))
+                ties++;
+        }
+        assertEquals(0.6, flushes / 2000.0, 0.05, "Test the flushes kept their percentage");
+        // Two random hands rarely have the same values, the rejected mix would give 40% of ties
+        assertTrue(ties < 20, "Test the rejected ties are not dealt");
+    }
+
+    private static String[] generate (DealGenerator generator, int nbDeals) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long bytes = generator.write(out, nbDeals);
+        assertEquals(out.size(), bytes, "Test number of bytes");
+        return out.toString(StandardCharsets.US_ASCII).split("\n");
+    }
+
+    /**
+     * @return the number of different cards of the line
+     */
+    private static int parse (String line, byte[] codes) {
+        DeckContext deal = new DeckContext();
+        int separator = line.indexOf('|');
+        assertEquals(HandBuilder.PARSE_OK, HandBuilder.tryParse(line, 0, separator, deal, codes, 0));
+        assertEquals(HandBuilder.PARSE_OK, HandBuilder.tryParse(line, separator + 1, line.length(), deal, codes, 5));
+        return Long.bitCount(deal.getMask());
+    }
+
+    private static boolean isFlush (long mask) {
+        return BitHand.ofMask(mask).getFlush() >= 0;
+    }
+
+    private static long maskOf (byte[] codes, int offset) {
+        long mask = 0;
+        for (int i = offset; i < offset + 5; i++)
+            mask |= 1L << codes[i];
+        return mask;
+    }
+}
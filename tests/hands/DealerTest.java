@@ -0,0 +1,51 @@
+package hands;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>Dealer</i>
+ */
+
+public class DealerTest {
+
+    @Test
+    public void testDeal () {
+        Dealer dealer = new Dealer(new SplittableRandom(5)::nextInt);
+
+        Hand hand1 = dealer.dealHand();
+        ImmutableHand hand2 = dealer.dealImmutableHand();
+        assertEquals(5, hand1.size(), "Test size of a hand");
+        assertEquals(0, BitHand.maskOf(hand1) & hand2.getMask(), "Test the hands of a deal are different");
+        assertEquals(10, Long.bitCount(dealer.getDeck().getDealt()),
+                "Test dealt cards");
+
+        dealer.newDeal();
+        assertEquals(0, dealer.getDeck().getDealt(), "Test new deal");
+    }
+
+    @Test
+    public void testDealPairs () {
+        Dealer dealer = new Dealer(new SplittableRandom(6)::nextInt);
+        HandComparator comparator = new HandComparator();
+        byte[] cards = new byte[100 * HandComparator.PAIR_LENGTH];
+        int[] results = new int[100];
+
+        for (int i = 0; i < 100; i++) {
+            dealer.dealPair(cards, i * HandComparator.PAIR_LENGTH);
+
+            long mask = 0;
+            for (int j = 0; j < HandComparator.PAIR_LENGTH; j++)
+                mask |= 1L << cards[i * HandComparator.PAIR_LENGTH + j];
+            assertEquals(HandComparator.PAIR_LENGTH, Long.bitCount(mask), "Test 10 different cards");
+        }
+
+        comparator.compareAll(cards, results);
+        for (int result : results) {
+            assertNotNull(HandComparator.winnerOf(result), "Test the pairs can be compared");
+        }
+    }
+}
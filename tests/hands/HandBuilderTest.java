@@ -1,10 +1,13 @@
 package hands;
 
+import cards.Card;
 import cards.Color;
 import cards.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -56,4 +59,101 @@ public class HandBuilderTest {
                     "Test interdiction de duplication ");
         }
     }
+
+    @Test
+    public void testReset () throws Exception {
+        builder.buildHandFromString("7Tr 3Pi 3Tr 3Ca 3Co");
+        assertEquals(5, Long.bitCount(builder.getKnownCards()), "Test known cards");
+
+        builder.reset();
+        assertEquals(0, builder.getKnownCards(), "Test empty deck");
+        Hand hand = builder.buildHandFromString("7Tr 3Pi 3Tr 3Ca 3Co");
+        assertEquals(5, hand.size(), "Test the same cards in a new deal");
+    }
+
+    @Test
+    public void testFailedHandReleaseCards () throws Exception {
+        try {
+            builder.buildHandFromString("7Tr 3Pi 3Tr");
+            fail("A hand of 3 cards should raise an exception");
+        } catch (Exception e) {
+            assertEquals(0, builder.getKnownCards(), "Test the cards are released");
+        }
+        assertEquals(5, builder.buildHandFromString("7Tr 3Pi 3Tr 3Ca 3Co").size(), "Test the cards are usable");
+    }
+
+    @Test
+    public void testParseWithContext () throws Exception {
+        DeckContext deck = new DeckContext();
+        ParsedHand hand = HandBuilder.parse("7Tr 6Pi 5Pi 5Tr 5Ca", deck);
+
+        assertEquals(5, hand.size(), "Test size");
+        assertEquals(Card.encode(Value.seven, Color.Tr), hand.getCode(0), "Test first code");
+        assertEquals(hand.getMask(), deck.getMask(), "Test the cards are dealt");
+        assertEquals(builder.buildHandFromString("7Tr 6Pi 5Pi 5Tr 5Ca"), hand.toHand(), "Test same hand");
+
+        try {
+            HandBuilder.parse("ACa RCa DCa VCa 5Ca", deck);
+            fail("A duplication exception should be raised");
+        } catch (RuntimeException e) {
+            assertEquals("Card already existing", e.getMessage(), "Test duplicate in the context");
+        }
+        assertEquals(hand.getMask(), deck.getMask(), "Test a bad hand isn't dealt");
+
+        assertEquals(5, HandBuilder.parse("ACa RCa DCa VCa 5Ca", new DeckContext()).size(),
+                "Test another context");
+    }
+
+    @Test
+    public void testConcurrentParse () {
+        String[] deals = {"7Tr 6Pi 5Pi 5Tr 5Ca", "DCa 2Ca 3Ca 4Ca 10Tr", "ACo RCo DCo VCo 10Co"};
+
+        long errors = IntStream.range(0, 10000).parallel().filter(i -> {
+            DeckContext deck = new DeckContext();
+            try {
+                for (String deal : deals)
+                    HandBuilder.parse(deal, deck);
+                return Long.bitCount(deck.getMask()) != 15;
+            } catch (Exception e) {
+                return true;
+            }
+        }).count();
+
+        assertEquals(0, errors, "Test no duplicate between the threads");
+    }
+
+    @Test
+    public void testTryParse () {
+        DeckContext deck = new DeckContext();
+        byte[] codes = new byte[10];
+        String line = "7Tr 6Pi 5Pi 5Tr 5Ca | DCa 2Ca 3Ca 4Ca 10Tr";
+
+        assertEquals(HandBuilder.PARSE_OK, HandBuilder.tryParse(line, 0, 19, deck, codes, 0), "Test first hand");
+        assertEquals(HandBuilder.PARSE_OK, HandBuilder.tryParse(line, 22, line.length(), deck, codes, 5),
+                "Test second hand");
+        assertEquals(Card.encode(Value.ten, Color.Tr), codes[9], "Test last code");
+        assertEquals(10, Long.bitCount(deck.getMask()), "Test dealt cards");
+
+        assertEquals(HandBuilder.ERROR_DUPLICATE, HandBuilder.tryParse(line, 0, 19, deck, codes, 0),
+                "Test duplicate");
+        assertEquals(HandBuilder.ERROR_NOT_CARD, HandBuilder.tryParse("7T", deck, codes, 0), "Test not a card");
+        assertEquals(HandBuilder.ERROR_VALUE, HandBuilder.tryParse("1Tr", deck, codes, 0), "Test bad value");
+        assertEquals(HandBuilder.ERROR_COLOR, HandBuilder.tryParse("API", deck, codes, 0), "Test bad color");
+        assertEquals(HandBuilder.ERROR_HAND_SIZE, HandBuilder.tryParse("ACa RCa", deck, codes, 0), "Test size");
+        assertEquals(HandBuilder.ERROR_HAND_SIZE, HandBuilder.tryParse("ACo RCo DCo VCo 9Co 8Co", deck, codes, 0),
+                "Test too many cards");
+        assertEquals(10, Long.bitCount(deck.getMask()), "Test bad hands are not dealt");
+
+        assertEquals("Card already existing", HandBuilder.getErrorMessage(HandBuilder.ERROR_DUPLICATE),
+                "Test message");
+
+        // The parse codes are positive and the comparison codes negative, so one table gives every message
+        assertNull(HandErrors.getMessage(HandErrors.PARSE_OK), "Test no message when valid");
+        for (int error = HandErrors.ERROR_SAME_TRIPS; error <= HandErrors.ERROR_LINE_TOO_LONG; error++) {
+            if (error != HandErrors.PARSE_OK)
+                assertNotNull(HandErrors.getMessage(error), "Test message of " + error);
+        }
+        assertEquals(HandComparator.getErrorMessage(HandComparator.ERROR_SAME_QUADS),
+                HandErrors.getMessage(HandErrors.ERROR_SAME_QUADS), "Test same message from the comparator");
+    }
 }
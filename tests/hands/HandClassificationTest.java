@@ -0,0 +1,105 @@
+package hands;
+
+import cards.Value;
+import interaction.ResultType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>HandClassification</i>
+ */
+
+public class HandClassificationTest {
+
+    @Test
+    public void testClassify () throws Exception {
+        HandClassification pair = new HandBuilder().buildHandFromString("VCa VPi 3Tr 7Ca 6Co").classify();
+        assertEquals(ResultType.pair, pair.getResultType(), "Test category");
+        assertArrayEquals(new Value[] {Value.jack, Value.seven, Value.six, Value.three}, pair.getValues(),
+                "Test deciding values");
+
+        HandClassification full = new HandBuilder().buildHandFromString("2Ca 2Pi 2Tr 9Pi 9Co").classify();
+        assertEquals(ResultType.full, full.getResultType(), "Test full");
+        assertEquals(Value.two, full.getValue(0), "Test value of the trip");
+        assertEquals(Value.nine, full.getValue(1), "Test value of the pair");
+        assertNull(full.getValue(2), "Test no other value");
+
+        HandClassification straightFlush = new HandBuilder().buildHandFromString("5Pi 6Pi 7Pi 8Pi 9Pi").classify();
+        assertEquals(ResultType.quinteFlush, straightFlush.getResultType(), "Test straight flush");
+        assertEquals(Value.nine, straightFlush.getValue(0), "Test highest value");
+
+        assertTrue(straightFlush.compareTo(full) > 0, "Test order");
+        assertTrue(pair.compareTo(full) < 0, "Test order");
+    }
+
+    @Test
+    public void testSameAsDetectors () throws Exception {
+        String[] hands = {"ATr 10Tr 8Ca 2Co 4Ca", "VCa VPi 3Tr 7Ca 6Co", "VCa VPi DTr DPi 3Pi",
+                "DCa DPi DTr 2Pi 4Co", "3Tr 4Pi 5Pi 6Tr 7Ca", "3Pi 4Pi 5Pi 6Pi 8Pi", "2Ca 2Pi 2Tr 9Pi 9Co",
+                "RCa RPi RTr RCo 4Co", "5Pi 6Pi 7Pi 8Pi 9Pi"};
+
+        for (String text : hands) {
+            assertSameAsDetectors(new HandBuilder().buildHandFromString(text));
+        }
+
+        // A spread sample of the 2,598,960 hands
+        for (int index = 0; index < HandIndex.NB_HANDS; index += 997) {
+            assertSameAsDetectors(Hand.ofIndex(index));
+        }
+    }
+
+    @Test
+    public void testSameAsMask () throws Exception {
+        String[] hands = {"ATr 10Tr 8Ca 2Co 4Ca", "VCa VPi DTr DPi 3Pi", "DCa DPi DTr 2Pi 4Co",
+                "3Tr 4Pi 5Pi 6Tr 7Ca", "3Pi 4Pi 5Pi 6Pi 8Pi", "RCa RPi RTr RCo 4Co"};
+
+        for (String text : hands) {
+            Hand hand = new HandBuilder().buildHandFromString(text);
+            assertEquals(HandClassification.ofMask(BitHand.maskOf(hand)), hand.classify(),
+                    "Test same classification from the mask of " + text);
+        }
+    }
+
+    /**
+     * Check the category and the first deciding value against the detectors of the hand
+     */
+    private static void assertSameAsDetectors (Hand hand) {
+        ResultType type;
+        Value value;
+        if (hand.isStraightFlush() != null) {
+            type = ResultType.quinteFlush;
+            value = hand.isStraightFlush().getValue();
+        } else if (hand.isSquare() != null) {
+            type = ResultType.carre;
+            value = hand.isSquare().getValue();
+        } else if (hand.getFull() != null) {
+            type = ResultType.full;
+            value = hand.getFull()[0];
+        } else if (hand.isFlush() != null) {
+            type = ResultType.couleur;
+            value = hand.isFlush().getValue();
+        } else if (hand.isStraight() != null) {
+            type = ResultType.suite;
+            value = hand.isStraight().getValue();
+        } else if (hand.getBrelan() != null) {
+            type = ResultType.brelan;
+            value = hand.getBrelan().getValue();
+        } else if (hand.getDoublePairCards() != null) {
+            type = ResultType.doublePair;
+            Value pair1 = hand.getDoublePairCards().getKey().getValue();
+            Value pair2 = hand.getDoublePairCards().getValue().getValue();
+            value = (pair1.compareTo(pair2) > 0) ? pair1 : pair2;
+        } else if (hand.getPairCards() != null) {
+            type = ResultType.pair;
+            value = hand.getPairCards().getValue();
+        } else {
+            type = ResultType.higherCard;
+            value = hand.getHighestCard().getValue();
+        }
+
+        HandClassification classification = hand.classify();
+        assertEquals(type, classification.getResultType(), "Test category of " + hand);
+        assertEquals(value, classification.getValue(0), "Test first deciding value of " + hand);
+    }
+}
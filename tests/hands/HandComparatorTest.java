@@ -1,6 +1,9 @@
 package hands;
 
+import cards.Card;
+import cards.Value;
 import interaction.ResultType;
+import interaction.TwoCardVictory;
 import interaction.Victorieu;
 import interaction.Victory;
 
@@ -372,4 +375,122 @@ public class HandComparatorTest {
         }
 
     }
+
+    @Test
+    public void testCompareDoesNotModifyHands () throws Exception {
+        Hand eightHighFlush = builder.buildHandFromString("3Tr 4Tr 5Tr 6Tr 8Tr");
+        Hand eightHighFlush2 = builder.buildHandFromString("2Co 4Co 5Co 6Co 8Co");
+        Hand jackPair = builder.buildHandFromString("VCa VPi 3Pi 7Ca 6Ca");
+        String flushBefore = eightHighFlush.toString();
+
+        assertEquals(Victorieu.main1, referee.compare(eightHighFlush, eightHighFlush2).getWinner());
+        assertEquals(Victorieu.main1, referee.compare(eightHighFlush, jackPair).getWinner());
+        assertEquals(Victorieu.main2, referee.compare(eightHighFlush2, eightHighFlush).getWinner());
+
+        assertEquals(flushBefore, eightHighFlush.toString(), "Test the hand is not modified");
+        assertEquals(5, eightHighFlush2.size(), "Test no card was removed from the second hand");
+    }
+
+    @Test
+    public void testCompareAll () throws Exception {
+        String[][] pairs = {
+                {"VCa 2Tr 3Tr 4Tr 5Pi", "DCa 2Ca 3Ca 4Ca 5Tr"},
+                {"VTr VPi DTr DPi 3Pi", "ATr 10Tr 8Ca 2Co 3Ca"},
+                {"ATr RTr DTr VTr 9Tr", "APi RPi DPi VPi 9Pi"},
+                {"RTr RCa RPi 4Ca 4Co", "DTr DCa DPi 5Ca 5Co"}
+        };
+
+        byte[] cards = new byte[pairs.length * HandComparator.PAIR_LENGTH];
+        for (int i = 0; i < pairs.length; i++) {
+            HandBuilder pairBuilder = new HandBuilder();
+            Hand hand1 = pairBuilder.buildHandFromString(pairs[i][0]);
+            Hand hand2 = pairBuilder.buildHandFromString(pairs[i][1]);
+            for (int j = 0; j < 5; j++) {
+                cards[i * HandComparator.PAIR_LENGTH + j] = (byte) hand1.get(j).getCode();
+                cards[i * HandComparator.PAIR_LENGTH + 5 + j] = (byte) hand2.get(j).getCode();
+            }
+        }
+
+        int[] results = new int[pairs.length];
+        referee.compareAll(cards, results);
+
+        assertEquals(Victorieu.main2, HandComparator.winnerOf(results[0]));
+        assertEquals(ResultType.higherCard, HandComparator.resultTypeOf(results[0]));
+        assertEquals(Victorieu.main1, HandComparator.winnerOf(results[1]));
+        assertEquals(ResultType.doublePair, HandComparator.resultTypeOf(results[1]));
+        assertEquals(Victorieu.egalite, HandComparator.winnerOf(results[2]));
+        assertEquals(ResultType.couleur, HandComparator.resultTypeOf(results[2]));
+        assertEquals(Victorieu.main1, HandComparator.winnerOf(results[3]));
+        assertEquals(ResultType.full, HandComparator.resultTypeOf(results[3]));
+    }
+
+    @Test
+    public void testCompareCodes () {
+        // Random deals with flushes and ties, so every kind of explanation is built
+        DealGenerator generator = new DealGenerator(11);
+        generator.setFlushPercent(30);
+        generator.setTiePercent(30);
+        byte[] codes = new byte[HandComparator.PAIR_LENGTH];
+
+        for (int i = 0; i < 5000; i++) {
+            generator.nextDeal(codes, 0);
+            Hand hand1 = new Hand(), hand2 = new Hand();
+            for (int c = 0; c < 5; c++) {
+                hand1.add(Card.of(codes[c]));
+                hand2.add(Card.of(codes[c + 5]));
+            }
+
+            assertSame(referee.compare(hand1, hand2), referee.compare(codes, 0), "Test " + hand1 + "| " + hand2);
+        }
+    }
+
+    @Test
+    public void testTryCompare () throws Exception {
+        Hand queenSet = builder.buildHandFromString("DCa DPi DTr 3Ca 4Tr");
+        Hand aceSet = builder.buildHandFromString("ATr ACa ACo 5Tr 4Ca");
+
+        int result = referee.tryCompare(aceSet, queenSet);
+        assertEquals(Victorieu.main1, HandComparator.winnerOf(result), "Test the winner");
+        assertEquals(ResultType.brelan, HandComparator.resultTypeOf(result), "Test the result type");
+
+        assertEquals(HandComparator.ERROR_SAME_TRIPS, referee.tryCompare(queenSet, queenSet),
+                "Test two same value trips");
+        assertEquals("two same value trips in a four colors games is impossible",
+                HandComparator.getErrorMessage(HandComparator.ERROR_SAME_TRIPS), "Test the message");
+        assertEquals(HandComparator.ERROR_NULL_HAND, referee.tryCompare(aceSet, null), "Test a null hand");
+
+        try {
+            referee.compare(queenSet, queenSet);
+            fail("Must raise an exception because two same value trips in a four colors games is impossible");
+        } catch (IllegalStateException e) {
+            assertEquals(HandComparator.getErrorMessage(HandComparator.ERROR_SAME_TRIPS), e.getMessage(),
+                    "Test the exception message");
+        }
+    }
+
+    @Test
+    public void testCompareEmptyHands () {
+        // An empty hand has no color to read
+        Victory draw = referee.compare(new Hand(), new Hand());
+        assertEquals(Victorieu.egalite, draw.getWinner(), "Test two empty hands draw");
+
+        Showdown showdown = referee.showdown(new Hand(), new Hand());
+        assertTrue(showdown.isSplit(), "Test empty hands share the pot");
+        assertEquals(Victorieu.main1, showdown.getVictory().getExplanation().getWinner(),
+                "Test explanation of the showdown");
+    }
+
+    @Test
+    public void testTwoPairsNameBothPairs () throws Exception {
+        Hand nothing = builder.buildHandFromString("6Pi VCo 10Pi DCa 2Co");
+        Hand kingsAndFours = builder.buildHandFromString("3Pi 4Pi RTr 4Tr RCo");
+
+        // The recursive comparator named the high pair twice when only the second hand had two pairs
+        for (Victory victory : new Victory[] {referee.compare(nothing, kingsAndFours),
+                referee.compare(kingsAndFours, nothing)}) {
+            assertEquals(ResultType.doublePair, victory.getWinType(), "Test two pairs");
+            assertEquals(Value.king, victory.getValueWinner(), "Test high pair");
+            assertEquals(Value.four, ((TwoCardVictory) victory).getValueWinner2(), "Test low pair");
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package hands;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import interaction.ResultType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>HandEvaluator</i> class
+ */
+
+public class HandEvaluatorTest {
+    private HandBuilder builder;
+
+    @BeforeEach
+    public void initHands() {
+        builder = new HandBuilder();
+    }
+
+    @Test
+    public void testCategories () throws Exception {
+        String[] hands = {
+                "2Tr RCa 5Ca 3Tr 4Tr", "7Pi 3Co 5Pi 2Ca 7Co", "7Ca 3Ca 5Tr 3Pi 7Tr", "8Pi 8Co 6Pi 8Ca 9Co",
+                "7Pi 6Pi 8Pi 9Pi 5Co", "7Ca 6Ca DCa 9Ca 8Ca", "9Pi 9Tr 9Co APi ACo", "VCa VPi VTr VCo 3Pi",
+                "DTr 10Tr RTr 9Tr VTr"
+        };
+        ResultType[] types = {
+                ResultType.higherCard, ResultType.pair, ResultType.doublePair, ResultType.brelan, ResultType.suite,
+                ResultType.couleur, ResultType.full, ResultType.carre, ResultType.quinteFlush
+        };
+
+        int previous = -1;
+        for (int i = 0; i < hands.length; i++) {
+            int strength = HandEvaluator.evaluate(new HandBuilder().buildHandFromString(hands[i]));
+
+            assertEquals(types[i], HandEvaluator.getResultType(strength), "Test category of " + hands[i]);
+            assertTrue(strength > previous, "Test " + hands[i] + " is stronger than the previous hand");
+            previous = strength;
+        }
+    }
+
+    @Test
+    public void testDecidingValues () throws Exception {
+        int strength = HandEvaluator.evaluate(builder.buildHandFromString("7Ca 3Ca 5Tr 3Pi 7Tr"));
+
+        assertEquals(Value.seven, HandEvaluator.getValue(strength, 0), "Test highest pair");
+        assertEquals(Value.three, HandEvaluator.getValue(strength, 1), "Test lowest pair");
+        assertEquals(Value.five, HandEvaluator.getValue(strength, 2), "Test kicker");
+        assertNull(HandEvaluator.getValue(strength, 3), "Test no more values");
+    }
+
+    @Test
+    public void testKickers () throws Exception {
+        int eightHighFlush = HandEvaluator.evaluate(builder.buildHandFromString("3Tr 4Tr 5Tr 6Tr 8Tr"));
+        int eightHighFlush2 = HandEvaluator.evaluate(builder.buildHandFromString("2Co 4Co 5Co 6Co 8Co"));
+        int jackPair = HandEvaluator.evaluate(new HandBuilder().buildHandFromString("VCa VPi 3Tr 7Ca 6Co"));
+        int jackPair2 = HandEvaluator.evaluate(builder.buildHandFromString("VCo VTr 3Pi 6Ca 7Co"));
+
+        assertTrue(eightHighFlush > eightHighFlush2, "Test flush decided on the lowest card");
+        assertEquals(jackPair, jackPair2, "Test same pair with same kickers");
+    }
+
+    @Test
+    public void testAllHands () {
+        int[] categories = new int[HandEvaluator.STRAIGHT_FLUSH + 1];
+        Set<Integer> strengths = new HashSet<>();
+
+        for (int c5 = 4; c5 < Card.DECK_SIZE; c5++)
+            for (int c4 = 3; c4 < c5; c4++)
+                for (int c3 = 2; c3 < c4; c3++)
+                    for (int c2 = 1; c2 < c3; c2++)
+                        for (int c1 = 0; c1 < c2; c1++) {
+                            int strength = HandEvaluator.evaluate(c1, c2, c3, c4, c5);
+                            categories[HandEvaluator.getCategory(strength)]++;
+                            strengths.add(strength);
+                        }
+
+        // The ace is only a high card, so there is no straight from ace to five
+        assertArrayEquals(new int[] {1303560, 1098240, 123552, 54912, 9180, 5112, 3744, 624, 36}, categories,
+                "Test number of hands of each category");
+        assertEquals(7462, strengths.size(), "Test number of distinct strengths");
+    }
+
+    @Test
+    public void testMaskOfFiveCards () {
+        for (int c5 = 4; c5 < Card.DECK_SIZE; c5++)
+            for (int c4 = 3; c4 < c5; c4++)
+                for (int c3 = 2; c3 < c4; c3++)
+                    for (int c2 = 1; c2 < c3; c2++)
+                        for (int c1 = 0; c1 < c2; c1++) {
+                            long mask = (1L << c1) | (1L << c2) | (1L << c3) | (1L << c4) | (1L << c5);
+                            assertEquals(HandEvaluator.evaluate(c1, c2, c3, c4, c5),
+                                    HandEvaluator.evaluateMask(mask), "Test hand " + BitHand.ofMask(mask));
+                        }
+    }
+
+    @Test
+    public void testSevenCards () throws Exception {
+        long board = BitHand.maskOf(builder.buildHandFromString("ACo ATr 9Co 2Co 5Pi"));
+        int strength = HandEvaluator.evaluateMask(board | BitHand.of(Card.encode(Value.three, Color.Co),
+                Card.encode(Value.four, Color.Co)).getMask());
+        assertEquals(ResultType.couleur, HandEvaluator.getResultType(strength), "Test flush with 7 cards");
+        assertEquals(Value.ace, HandEvaluator.getValue(strength, 0), "Test highest value of the flush");
+
+        Random random = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            int[] codes = new int[7];
+            long mask = 0;
+            for (int i = 0; i < codes.length; i++) {
+                do {
+                    codes[i] = random.nextInt(Card.DECK_SIZE);
+                } while ((mask & (1L << codes[i])) != 0);
+                mask |= 1L << codes[i];
+            }
+
+            // The best of the 21 hands of 5 cards
+            int best = 0;
+            for (int skip1 = 0; skip1 < codes.length; skip1++)
+                for (int skip2 = skip1 + 1; skip2 < codes.length; skip2++) {
+                    long subset = mask & ~(1L << codes[skip1]) & ~(1L << codes[skip2]);
+                    best = Math.max(best, HandEvaluator.evaluateMask(subset));
+                }
+
+            assertEquals(best, HandEvaluator.evaluate(codes[0], codes[1], codes[2], codes[3], codes[4], codes[5],
+                    codes[6]), "Test hand " + BitHand.ofMask(mask));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package hands;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>HandFileParser</i>
+ */
+
+public class HandFileParserTest {
+    @TempDir
+    Path directory;
+
+    private final List<Long> lines = new ArrayList<>();
+    private final List<byte[]> cards = new ArrayList<>();
+    private final List<long[]> errors = new ArrayList<>();
+
+    private final HandFileParser.Listener listener = new HandFileParser.Listener() {
+        @Override
+        public void onLine (long offset, byte[] codes, int nbHands) {
+            lines.add(offset);
+            byte[] copy = new byte[nbHands * 5];
+            System.arraycopy(codes, 0, copy, 0, copy.length);
+            cards.add(copy);
+        }
+
+        @Override
+        public void onError (long offset, int error) {
+            errors.add(new long[] {offset, error});
+        }
+    };
+
+    private Path write (String content) throws Exception {
+        Path file = directory.resolve("hands.txt");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @Test
+    public void testParse () throws Exception {
+        Path file = write("7Tr 6Pi 5Pi 5Tr 5Ca | DCa 2Ca 3Ca 4Ca 10Tr\r\n\nACa RCa DCa VCa 10Ca");
+
+        assertEquals(2, new HandFileParser().parse(file, listener), "Test number of lines");
+        assertTrue(errors.isEmpty(), "Test no error");
+        assertEquals(List.of(0L, 45L), lines, "Test offsets");
+
+        byte[] first = cards.get(0);
+        assertEquals(10, first.length, "Test two hands");
+        assertEquals(Card.encode(Value.seven, Color.Tr), (int) first[0], "Test first card");
+        assertEquals(Card.encode(Value.ten, Color.Tr), (int) first[9], "Test ten");
+        assertEquals(Card.encode(Value.ace, Color.Ca), (int) cards.get(1)[0], "Test ace");
+    }
+
+    @Test
+    public void testMalformedLines () throws Exception {
+        Path file = write("7Tr 6Pi 5Pi 5Tr\n"
+                + "7Tr 6Pi 5Pi 5Tr 5Xx\n"
+                + "7Tr 6Pi 5Pi 5Tr 7Tr\n"
+                + "7Tr 6Pi 5Pi 5Tr 5Ca\n"
+                + "7Tr6Pi 5Pi 5Tr 5Ca\n");
+
+        assertEquals(1, new HandFileParser().parse(file, listener), "Test one good line");
+        assertEquals(4, errors.size(), "Test number of errors");
+        assertArrayEquals(new long[] {0, HandBuilder.ERROR_HAND_SIZE}, errors.get(0), "Test missing card");
+        assertArrayEquals(new long[] {16, HandBuilder.ERROR_COLOR}, errors.get(1), "Test bad color");
+        assertArrayEquals(new long[] {36, HandBuilder.ERROR_DUPLICATE}, errors.get(2), "Test duplicate");
+        assertArrayEquals(new long[] {76, HandBuilder.ERROR_VALUE}, errors.get(3), "Test missing space");
+        assertEquals(List.of(56L), lines, "Test offset of the good line");
+    }
+
+    @Test
+    public void testDuplicateBetweenHands () throws Exception {
+        Path file = write("7Tr 6Pi 5Pi 5Tr 5Ca | 7Tr 2Ca 3Ca 4Ca 10Tr\n| 7Tr 6Pi 5Pi 5Tr 5Ca");
+
+        assertEquals(0, new HandFileParser().parse(file, listener), "Test no good line");
+        assertArrayEquals(new long[] {0, HandBuilder.ERROR_DUPLICATE}, errors.get(0), "Test card in two hands");
+        assertArrayEquals(new long[] {43, HandBuilder.ERROR_HAND_SIZE}, errors.get(1), "Test empty hand");
+    }
+
+    @Test
+    public void testChunks () throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            content.append("7Tr 6Pi 5Pi 5Tr 5Ca | DCa 2Ca 3Ca 4Ca 10Tr\n");
+        Path file = write(content.toString());
+
+        // A chunk smaller than the file, that doesn't end on a line
+        assertEquals(100, new HandFileParser(2, 100).parse(file, listener), "Test lines across chunks");
+        assertTrue(errors.isEmpty(), "Test no error");
+        assertEquals(99L * 43, lines.get(99), "Test offset of the last line");
+    }
+
+    @Test
+    public void testTooManyHands () throws Exception {
+        Path file = write("7Tr 6Pi 5Pi 5Tr 5Ca | DCa 2Ca 3Ca 4Ca 10Tr");
+
+        assertEquals(0, new HandFileParser(1, 1 << 10).parse(file, listener), "Test no line");
+        assertArrayEquals(new long[] {0, HandFileParser.ERROR_TOO_MANY_HANDS}, errors.get(0), "Test error");
+    }
+}
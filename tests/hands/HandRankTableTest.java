@@ -0,0 +1,162 @@
+package hands;
+
+import launcher.RankTableMain;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>HandRankTable</i> and <i>HandIndex</i>
+ */
+
+public class HandRankTableTest {
+    private static HandRankTable table;
+
+    @BeforeAll
+    public static void generate () {
+        table = HandRankTable.generate();
+    }
+
+    @Test
+    public void testIndex () {
+        assertEquals(0, HandIndex.indexOf(0, 1, 2, 3, 4), "Test first index");
+        assertEquals(HandIndex.NB_HANDS - 1, HandIndex.indexOf(47, 48, 49, 50, 51), "Test last index");
+        assertEquals(HandIndex.indexOf(3, 10, 20, 30, 40),
+                HandIndex.indexOf(1L << 3 | 1L << 10 | 1L << 20 | 1L << 30 | 1L << 40), "Test index of a mask");
+        assertEquals(HandIndex.NB_HANDS, HandIndex.binomial(52, 5), "Test number of hands");
+    }
+
+    @Test
+    public void testIndexBijection () {
+        for (int index = 0; index < HandIndex.NB_HANDS; index++) {
+            long mask = HandIndex.maskOf(index);
+            assertEquals(5, Long.bitCount(mask), "Test size of index " + index);
+            assertEquals(index, HandIndex.indexOf(mask), "Test index " + index);
+        }
+        assertThrows(IllegalArgumentException.class, () -> HandIndex.maskOf(HandIndex.NB_HANDS), "Test bounds");
+    }
+
+    @Test
+    public void testIndexOfHands () throws Exception {
+        Hand hand = new HandBuilder().buildHandFromString("7Tr 6Pi 5Pi 5Tr 5Ca");
+        Hand reversed = new HandBuilder().buildHandFromString("5Ca 5Pi 5Tr 6Pi 7Tr");
+
+        assertEquals(hand.getIndex(), reversed.getIndex(), "Test the order of the cards doesn't matter");
+        assertEquals(BitHand.of(hand).getIndex(), hand.getIndex(), "Test same index as the packed hand");
+        assertEquals(BitHand.of(hand), BitHand.ofIndex(hand.getIndex()), "Test packed hand of the index");
+        assertEquals(reversed, Hand.ofIndex(hand.getIndex()), "Test hand of the index");
+        assertEquals(hand.getIndex(), HandBuilder.parse("7Tr 6Pi 5Pi 5Tr 5Ca", new DeckContext()).getIndex(),
+                "Test index of a parsed hand");
+
+        hand.remove(0);
+        assertThrows(IllegalStateException.class, hand::getIndex, "Test a hand of 4 cards");
+    }
+
+    @Test
+    public void testRanks () {
+        assertEquals(7462, table.getNbRanks(), "Test number of distinct hands");
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 20000; i++) {
+            long mask = randomHand(random, 0);
+            assertEquals(HandEvaluator.evaluateMask(mask), table.getStrength(HandIndex.indexOf(mask)),
+                    "Test strength of " + BitHand.ofMask(mask));
+        }
+    }
+
+    @Test
+    public void testKnownRanks () throws Exception {
+        HandBuilder builder = new HandBuilder();
+        Hand royalFlush = builder.buildHandFromString("ACo RCo DCo VCo 10Co");
+        assertEquals(table.getNbRanks() - 1, table.getRankOfMask(BitHand.maskOf(royalFlush)),
+                "Test the royal flush is the best hand");
+        builder.reset();
+        Hand worst = builder.buildHandFromString("7Ca 5Co 4Pi 3Tr 2Ca");
+        assertEquals(0, table.getRankOfMask(BitHand.maskOf(worst)), "Test the worst highest card");
+        builder.reset();
+        // The ace is only a high card, so A5432 is not a straight
+        Hand aceHigh = builder.buildHandFromString("ACa 5Co 4Pi 3Tr 2Ca");
+        Hand worstPair = builder.buildHandFromString("2Co 2Pi 3Ca 4Ca 5Pi");
+        assertTrue(table.getRankOfMask(BitHand.maskOf(aceHigh)) < table.getRankOfMask(BitHand.maskOf(worstPair)),
+                "Test A5432 is below the worst pair");
+
+        int[] seen = new int[table.getNbRanks()];
+        for (int index = 0; index < HandIndex.NB_HANDS; index++) {
+            seen[table.getRank(index)]++;
+        }
+        for (int rank = 0; rank < seen.length; rank++) {
+            assertTrue(seen[rank] > 0, "Test every rank is used " + rank);
+        }
+    }
+
+    @Test
+    public void testAgainstDetectors () {
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 20000; i++) {
+            long mask1 = randomHand(random, 0);
+            long mask2 = randomHand(random, mask1);
+            int rank1 = table.getRankOfMask(mask1);
+            int rank2 = table.getRankOfMask(mask2);
+
+            Hand hand1 = BitHand.ofMask(mask1).toHand();
+            Hand hand2 = BitHand.ofMask(mask2).toHand();
+            assertEquals(RankTableMain.compareWithDetectors(hand1, hand2), Integer.signum(rank1 - rank2),
+                    "Test pair " + hand1 + "| " + hand2);
+        }
+    }
+
+    @Test
+    public void testDetectorsOnFixtures () throws Exception {
+        HandBuilder builder = new HandBuilder();
+        String[] ordered = {"7Ca 5Co 4Pi 3Tr 2Ca", "ACa RCo 4Pi 3Tr 2Ca", "2Ca 2Co 4Pi 3Tr 5Ca",
+                "ACa ACo RPi RTr 2Ca", "3Ca 3Co 3Pi RTr 2Ca", "6Ca 5Co 4Pi 3Tr 2Ca", "9Ca 7Ca 5Ca 3Ca 2Ca",
+                "2Ca 2Co 2Pi 3Tr 3Ca", "2Ca 2Co 2Pi 2Tr 3Ca", "ACo RCo DCo VCo 10Co"};
+
+        for (int i = 1; i < ordered.length; i++) {
+            builder.reset();
+            Hand weaker = builder.buildHandFromString(ordered[i - 1]);
+            builder.reset();
+            Hand stronger = builder.buildHandFromString(ordered[i]);
+            assertEquals(1, RankTableMain.compareWithDetectors(stronger, weaker), "Test " + ordered[i]);
+            assertTrue(table.getRankOfMask(BitHand.maskOf(stronger)) > table.getRankOfMask(BitHand.maskOf(weaker)),
+                    "Test rank of " + ordered[i]);
+        }
+    }
+
+    @Test
+    public void testWriteAndLoad (@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("ranks.bin");
+        table.write(file);
+        HandRankTable loaded = HandRankTable.load(file);
+
+        assertEquals(table.getNbRanks(), loaded.getNbRanks(), "Test number of ranks");
+        for (int index = 0; index < HandIndex.NB_HANDS; index += 997) {
+            assertEquals(table.getRank(index), loaded.getRank(index), "Test rank of index " + index);
+            assertEquals(table.getStrength(index), loaded.getStrength(index), "Test strength of index " + index);
+        }
+        assertEquals(table.getRank(HandIndex.NB_HANDS - 1), loaded.getRank(HandIndex.NB_HANDS - 1),
+                "Test last rank");
+
+        Path bad = directory.resolve("bad.bin");
+        Files.write(bad, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        assertThrows(IOException.class, () -> HandRankTable.load(bad), "Test bad file");
+    }
+
+    private static long randomHand (SplittableRandom random, long dead) {
+        long mask = 0;
+        while (Long.bitCount(mask) < 5) {
+            long card = 1L << random.nextInt(52);
+            if ((dead & card) == 0)
+                mask |= card;
+        }
+        return mask;
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.AbstractMap;
+import java.util.Comparator;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -197,4 +198,61 @@ public class HandTest {
         assertEquals(Value.nine, hand1.isStraight().getValue(), "Test is suite 2");
         assertEquals(Value.nine, hand1.isStraightFlush().getValue(), "Test is quinte flush");
     }
+
+    @Test
+    public void testProfile () throws Exception {
+        Hand hand = builder.buildHandFromString("9Tr 5Pi 7Pi 6Ca 8Co");
+        HandProfile profile = hand.getProfile();
+
+        assertSame(profile, hand.getProfile(), "Test the profile is kept");
+        assertEquals(Value.nine, hand.isStraight().getValue(), "Test straight");
+        assertEquals(Value.nine, hand.get(0).getValue(), "Test the hand isn't sorted");
+        assertSame(profile, hand.getProfile(), "Test the detectors don't modify the hand");
+
+        hand.remove(4);
+        assertNotSame(profile, hand.getProfile(), "Test a removal clear the profile");
+        assertNull(hand.isStraight(), "Test no straight with 4 cards");
+
+        hand.add(new Card(Value.nine, Color.Ca));
+        assertEquals(Value.nine, hand.getPairCards().getValue(), "Test an addition clear the profile");
+
+        profile = hand.getProfile();
+        hand.set(4, new Card(Value.five, Color.Ca));
+        assertNotSame(profile, hand.getProfile(), "Test a replacement clear the profile");
+        assertEquals(Value.five, hand.getPairCards().getValue(), "Test the new pair");
+
+        hand.clear();
+        assertNull(hand.getHighestCard(), "Test empty hand");
+    }
+
+    @Test
+    public void testSubListClearProfile () throws Exception {
+        Hand hand = builder.buildHandFromString("2Tr 5Tr 7Tr 9Tr RTr");
+        assertNotNull(hand.isFlush(), "Test flush");
+
+        hand.subList(1, 3).set(0, new Card(Value.five, Color.Ca));
+        assertNull(hand.isFlush(), "Test a replacement in a view clear the profile");
+
+        hand.set(1, new Card(Value.five, Color.Tr));
+        assertNotNull(hand.isFlush(), "Test flush again");
+        hand.subList(0, 5).subList(2, 4).set(1, new Card(Value.nine, Color.Pi));
+        assertNull(hand.isFlush(), "Test a replacement in a view of a view");
+
+        hand = new HandBuilder().buildHandFromString("2Tr 5Pi 3Tr 4Ca 6Co");
+        HandProfile profile = hand.getProfile();
+        hand.subList(1, 4).sort(Comparator.comparing(Card::getValue));
+        assertEquals(Value.two, hand.get(0).getValue(), "Test the view sorted its cards only");
+        assertEquals(Value.three, hand.get(1).getValue(), "Test the view sorted its cards only");
+        assertNotSame(profile, hand.getProfile(), "Test a sort in a view clear the profile");
+        assertEquals(Value.six, hand.isStraight().getValue(), "Test straight");
+
+        hand.subList(0, 2).clear();
+        assertEquals(3, hand.size(), "Test a removal in a view");
+        assertNull(hand.isStraight(), "Test a removal in a view clear the profile");
+
+        profile = hand.getProfile();
+        hand.subList(0, 1).add(new Card(Value.ace, Color.Ca));
+        assertEquals(4, hand.size(), "Test an addition in a view");
+        assertNotSame(profile, hand.getProfile(), "Test an addition in a view clear the profile");
+    }
 }
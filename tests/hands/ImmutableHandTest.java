@@ -0,0 +1,50 @@
+package hands;
+
+import cards.Card;
+import cards.Color;
+import cards.Value;
+import interaction.ResultType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>ImmutableHand</i>
+ */
+
+public class ImmutableHandTest {
+
+    @Test
+    public void testOf () throws Exception {
+        Hand hand = new HandBuilder().buildHandFromString("7Tr 6Pi 5Pi 5Tr 5Ca");
+        ImmutableHand immutable = ImmutableHand.of(hand);
+
+        assertEquals(Card.encode(Value.five, Color.Ca), immutable.getCode(0), "Test lowest code");
+        assertEquals(new Card(Value.seven, Color.Tr), immutable.getCard(4), "Test highest card");
+        assertEquals(BitHand.maskOf(hand), immutable.getMask(), "Test mask");
+        assertEquals(hand.getIndex(), immutable.getIndex(), "Test index");
+        assertEquals(HandEvaluator.evaluate(hand), immutable.getStrength(), "Test strength");
+        assertEquals(ResultType.brelan, immutable.classify().getResultType(), "Test category");
+    }
+
+    @Test
+    public void testValueType () throws Exception {
+        Hand hand = new HandBuilder().buildHandFromString("ACo 2Tr VPi 10Ca 4Co");
+        ImmutableHand immutable = ImmutableHand.of(hand);
+        ImmutableHand reordered = ImmutableHand.of(immutable.getCode(3), immutable.getCode(0),
+                immutable.getCode(4), immutable.getCode(2), immutable.getCode(1));
+
+        assertEquals(immutable, reordered, "Test the order doesn't matter");
+        assertEquals(immutable.hashCode(), reordered.hashCode(), "Test same hash");
+        assertEquals(immutable, ImmutableHand.ofIndex(immutable.getIndex()), "Test hand of the index");
+        assertEquals(ImmutableHand.of(immutable.toHand()), immutable, "Test conversion to a hand");
+        assertEquals(5, immutable.toHand().size(), "Test size of the hand");
+    }
+
+    @Test
+    public void testBadHands () {
+        assertThrows(IllegalArgumentException.class, () -> ImmutableHand.of(1, 2, 3, 4), "Test 4 cards");
+        assertThrows(IllegalArgumentException.class, () -> ImmutableHand.of(1, 2, 3, 4, 4), "Test same card");
+        assertThrows(IllegalArgumentException.class, () -> ImmutableHand.of(1, 2, 3, 4, 52), "Test bad code");
+    }
+}
@@ -0,0 +1,74 @@
+package hands;
+
+import interaction.ResultType;
+import interaction.ShowdownVictory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>HandComparator</i> showdowns
+ */
+
+public class ShowdownTest {
+    private HandBuilder builder;
+    private HandComparator referee;
+
+    @BeforeEach
+    public void initHands() {
+        builder = new HandBuilder();
+        referee = new HandComparator();
+    }
+
+    @Test
+    public void testRanking () throws Exception {
+        Hand jackPair = builder.buildHandFromString("VCa VPi 3Tr 7Ca 6Co");
+        Hand eightHighFlush = builder.buildHandFromString("3Pi 4Pi 5Pi 6Pi 8Pi");
+        Hand nothing = builder.buildHandFromString("ATr 10Tr 8Ca 2Co 4Ca");
+        Hand queenSet = builder.buildHandFromString("DCa DPi DTr 2Pi 4Co");
+
+        Showdown showdown = referee.showdown(jackPair, eightHighFlush, nothing, queenSet);
+
+        assertArrayEquals(new int[] {1, 3, 0, 2}, showdown.getRanking(), "Test ranking");
+        assertArrayEquals(new int[] {1}, showdown.getWinners(), "Test winner");
+        assertFalse(showdown.isSplit(), "Test no split pot");
+        assertEquals(3, showdown.getPlace(2), "Test place of the last hand");
+
+        ShowdownVictory victory = showdown.getVictory();
+        assertArrayEquals(new int[] {1}, victory.getWinners(), "Test same index as the showdown");
+        assertTrue(victory.toString().startsWith("Le joueur 2 "), "Test the message number the players from 1");
+        assertEquals(ResultType.couleur, victory.getWinType(), "Test win type");
+    }
+
+    @Test
+    public void testSplitPot () throws Exception {
+        Hand aceHighStraight = builder.buildHandFromString("ACo RCa DCa VCa 10Tr");
+        Hand kingHighStraight = builder.buildHandFromString("RPi DCo VCo 10Pi 9Co");
+        Hand aceHighStraight2 = builder.buildHandFromString("APi RCo DPi VPi 10Ca");
+        Hand aceHighStraight3 = builder.buildHandFromString("ATr RTr DTr VTr 10Co");
+        Hand straightFlush = builder.buildHandFromString("5Tr 6Tr 7Tr 8Tr 9Tr");
+
+        // The three ace-high straights split the pot and the king-high one is second
+        Showdown showdown = referee.showdown(aceHighStraight, kingHighStraight, aceHighStraight2, aceHighStraight3);
+
+        assertTrue(showdown.isSplit(), "Test split pot");
+        assertArrayEquals(new int[] {0, 2, 3}, showdown.getVictory().getWinners(), "Test winners");
+        assertArrayEquals(new int[][] {{0, 2, 3}, {1}}, showdown.getGroups(), "Test groups");
+        assertEquals(ResultType.suite, showdown.getVictory().getWinType(), "Test win type");
+        assertEquals("Les joueurs 1, 3, 4 partagent par suite au ace", showdown.getVictory().toString(),
+                "Test same labels as a victory between two hands");
+
+        ResourceBundle r = ResourceBundle.getBundle("values.strings", Locale.getDefault());
+        // The message number the players from 1
+        assertEquals(r.getString("split") + " 1, 3, 4 " + r.getString("suite") + " " + r.getString("ace"),
+                showdown.getVictory().describe(r), "Test description");
+
+        Showdown withStraightFlush = referee.showdown(aceHighStraight, straightFlush, aceHighStraight3);
+        assertArrayEquals(new int[] {1}, withStraightFlush.getWinners(), "Test straight flush wins");
+        assertFalse(withStraightFlush.isSplit(), "Test no split pot");
+    }
+}
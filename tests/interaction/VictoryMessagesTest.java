@@ -0,0 +1,88 @@
+package interaction;
+
+import cards.Color;
+import cards.Value;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>VictoryMessages</i>
+ */
+
+public class VictoryMessagesTest {
+    private final ResourceBundle r = ResourceBundle.getBundle("values.strings", Locale.getDefault());
+
+    @Test
+    public void testSameMessages () {
+        VictoryMessages messages = VictoryMessages.forLocale(Locale.getDefault());
+        Victory[] victories = {
+                Victory.of(Victorieu.main1, ResultType.higherCard, Value.seven),
+                Victory.of(Victorieu.egalite, ResultType.couleur, null),
+                ColorVictory.of(Victorieu.main2, ResultType.quinteFlush, Value.ace, Color.Tr),
+                TwoCardVictory.of(Victorieu.main1, ResultType.full, Value.king, Value.two)
+        };
+
+        for (Victory victory : victories) {
+            assertEquals(victory.describe(r), messages.get(victory.getCode()), "Test message of " + victory);
+            assertEquals(victory.describe(r), messages.get(victory), "Test message of " + victory);
+        }
+
+        assertSame(messages, VictoryMessages.forLocale(Locale.getDefault()), "Test cache");
+    }
+
+    @Test
+    public void testWrite () {
+        VictoryMessages messages = new VictoryMessages(r, StandardCharsets.ISO_8859_1);
+        Victory quads = Victory.of(Victorieu.main2, ResultType.carre, Value.queen);
+        byte[] expected = quads.describe(r).getBytes(StandardCharsets.ISO_8859_1);
+
+        byte[] dest = new byte[100];
+        assertEquals(expected.length, messages.write(quads.getCode(), dest, 3), "Test length");
+        assertEquals(quads.describe(r), new String(dest, 3, expected.length, StandardCharsets.ISO_8859_1),
+                "Test bytes in an array");
+
+        ByteBuffer buffer = ByteBuffer.allocate(100);
+        messages.write(quads.getCode(), buffer);
+        assertEquals(messages.length(quads.getCode()), buffer.position(), "Test bytes in a buffer");
+    }
+
+    @Test
+    public void testEveryCode () {
+        VictoryMessages messages = VictoryMessages.forLocale(Locale.getDefault());
+        Victory[] victories = {
+                ColorVictory.of(Victorieu.main1, ResultType.couleur, Value.ace, null),
+                TwoCardVictory.of(Victorieu.main2, ResultType.doublePair, Value.king, null),
+                TwoCardVictory.of(Victorieu.main2, ResultType.doublePair, null, Value.two)
+        };
+
+        for (Victory victory : victories) {
+            int code = victory.getCode();
+            assertEquals(victory.describe(r), messages.get(code), "Test message of " + victory);
+            assertEquals(messages.get(victory), messages.get(code), "Test message of " + victory);
+            assertEquals(messages.get(code).getBytes(StandardCharsets.UTF_8).length, messages.length(code),
+                    "Test length of " + victory);
+        }
+    }
+
+    @Test
+    public void testUnknownCodes () {
+        VictoryMessages messages = VictoryMessages.forLocale(Locale.getDefault());
+        // The winner field holds 2 bits, but there is only 3 winners
+        int[] codes = {-1, Victory.NB_CODES, 3};
+
+        for (int code : codes) {
+            assertNull(messages.get(code), "Test no message of code " + code);
+            assertThrows(IllegalArgumentException.class, () -> messages.length(code), "Test length of " + code);
+            assertThrows(IllegalArgumentException.class, () -> messages.write(code, new byte[100], 0),
+                    "Test write of " + code);
+            assertThrows(IllegalArgumentException.class, () -> messages.write(code, ByteBuffer.allocate(100)),
+                    "Test write in a buffer of " + code);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package interaction;
+
+import cards.Color;
+import cards.Value;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on the shared <i>Victory</i> instances
+ */
+
+public class VictoryTest {
+    @Test
+    public void testSharedInstances () {
+        assertSame(Victory.of(Victorieu.main1, ResultType.pair, Value.ace),
+                Victory.of(Victorieu.main1, ResultType.pair, Value.ace), "Test shared victory");
+        assertSame(ColorVictory.of(Victorieu.main2, ResultType.couleur, Value.king, Color.Pi),
+                ColorVictory.of(Victorieu.main2, ResultType.couleur, Value.king, Color.Pi), "Test shared color");
+        assertSame(TwoCardVictory.of(Victorieu.main1, ResultType.full, Value.two, Value.three),
+                TwoCardVictory.of(Victorieu.main1, ResultType.full, Value.two, Value.three), "Test shared values");
+
+        Victory draw = Victory.of(Victorieu.egalite, ResultType.couleur, null);
+        assertNull(draw.getValueWinner(), "Test victory without value");
+        assertEquals(new Victory(Victorieu.egalite, ResultType.couleur, null), draw, "Test equals");
+    }
+
+    @Test
+    public void testCodes () {
+        Victory[] victories = {
+                Victory.of(Victorieu.main1, ResultType.higherCard, Value.seven),
+                Victory.of(Victorieu.egalite, ResultType.couleur, null),
+                ColorVictory.of(Victorieu.main2, ResultType.quinteFlush, Value.ace, Color.Tr),
+                TwoCardVictory.of(Victorieu.main1, ResultType.doublePair, Value.king, Value.two)
+        };
+
+        for (Victory victory : victories) {
+            assertSame(victory, Victory.fromCode(victory.getCode()), "Test code of " + victory);
+        }
+
+        TwoCardVictory full = (TwoCardVictory) Victory.fromCode(victories[3].getCode());
+        assertEquals(Value.two, full.getValueWinner2(), "Test second value");
+        assertEquals(Color.Tr, ((ColorVictory) Victory.fromCode(victories[2].getCode())).getWinColor(),
+                "Test color");
+
+        // The victories without color or second value are not shared, but are rebuilt from their code
+        Victory[] notShared = {
+                ColorVictory.of(Victorieu.main1, ResultType.couleur, Value.ten, null),
+                TwoCardVictory.of(Victorieu.main2, ResultType.full, Value.ace, null)
+        };
+        for (Victory victory : notShared) {
+            Victory decoded = Victory.fromCode(victory.getCode());
+            assertEquals(victory, decoded, "Test code of " + victory.getClass().getSimpleName());
+            assertEquals(victory.getClass(), decoded.getClass(), "Test kind of " + victory.getClass().getSimpleName());
+        }
+        assertNull(((ColorVictory) Victory.fromCode(notShared[0].getCode())).getWinColor(), "Test null color");
+    }
+}
@@ -0,0 +1,38 @@
+package util.cmdline;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Basic JUnit test on <i>CmdLineController</i> batch mode
+ */
+
+public class CmdLineControllerTest {
+
+    @Test
+    public void testRunBatch () throws Exception {
+        CmdLineController controller = new CmdLineController();
+        ResourceBundle r = ResourceBundle.getBundle("values.strings", Locale.getDefault());
+
+        StringWriter out = new StringWriter();
+        controller.runBatch(new BufferedReader(new StringReader(
+                "VCa 2Tr 3Tr 4Tr 5Pi | DCa 2Ca 3Ca 4Ca 5Tr\n"
+                        + "\n"
+                        + "VCa 2Tr 3Tr 4Tr 5Pi | VCa 2Ca 3Ca 4Ca 5Tr\n"
+                        + "ATr RTr DTr VTr 9Tr | APi RPi DPi VPi 9Pi\n")), out);
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(3, lines.length, "Test one result by pair of hands");
+        assertEquals(r.getString("main2") + " " + r.getString("higherCard") + " " + r.getString("queen"),
+                lines[0], "Test first result");
+        assertEquals(r.getString("hand_creation_error"), lines[1], "Test a duplicated card is an error");
+        assertEquals(r.getString("draw"), lines[2], "Test the stream continue after an error");
+    }
+}